@@ -1,5 +1,6 @@
 package com.example.devnote.news_youtube_service.config;
 
+import com.example.devnote.news_youtube_service.dto.ContentMessageDto;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -49,4 +50,17 @@ public class KafkaProducerConfig {
     public static String topicRawContent() {
         return TOPIC_RAW_CONTENT;
     }
+
+    /**
+     * raw.content 메시지 키 생성
+     * - channelId 기준으로 키를 지정하여 채널 단위 순서를 보장하면서 전체 파티션으로 부하를 분산
+     *   (Kafka 기본 파티셔너가 키의 murmur2 해시로 파티션을 결정)
+     * - channelId가 없으면 link를 키로 사용
+     */
+    public static String rawContentKey(ContentMessageDto dto) {
+        if (dto.getChannelId() != null && !dto.getChannelId().isBlank()) {
+            return dto.getChannelId();
+        }
+        return dto.getLink();
+    }
 }
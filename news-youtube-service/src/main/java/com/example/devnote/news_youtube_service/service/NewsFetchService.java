@@ -92,7 +92,7 @@ public class NewsFetchService {
                     .collect(Collectors.toList());
 
             items.forEach(dto ->
-                    kafkaTemplate.send(KafkaProducerConfig.topicRawContent(), dto)
+                    kafkaTemplate.send(KafkaProducerConfig.topicRawContent(), KafkaProducerConfig.rawContentKey(dto), dto)
             );
             log.info("    ✓ Published {} items for '{}'", items.size(), sourceName);
 
@@ -212,7 +212,7 @@ public class YouTubeFetchService {
 
         kafkaTemplate.send(
                 KafkaProducerConfig.TOPIC_RAW_CONTENT,
-                category,
+                KafkaProducerConfig.rawContentKey(msg),
                 msg
         );
         log.debug("▶ Published {} / {}", category, videoId);
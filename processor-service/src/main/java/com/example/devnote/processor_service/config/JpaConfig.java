@@ -0,0 +1,30 @@
+package com.example.devnote.processor_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * - contents ID가 시퀀스 기반이므로 INSERT/UPDATE가 JDBC 배치로 묶여 전송됨
+ */
+@Configuration
+@Slf4j
+public class JpaConfig {
+
+    @Value("${processor.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+        return props -> {
+            props.put("hibernate.jdbc.batch_size", batchSize);
+            props.put("hibernate.order_inserts", true);
+            props.put("hibernate.order_updates", true);
+            props.put("hibernate.jdbc.batch_versioned_data", true);
+            log.info("Hibernate JDBC batching configured (batch_size={})", batchSize);
+        };
+    }
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +29,10 @@ import java.util.Map;
 public class KafkaConsumerConfig {
     private final KafkaProperties props;
 
+    /** raw.content 리스너 동시 소비 스레드 수 (raw.content 파티션 수 이하로 설정) */
+    @Value("${processor.kafka.raw-content.concurrency:3}")
+    private int rawContentConcurrency;
+
     /**
      * ConsumerFactory 빈 생성
      */
@@ -47,6 +52,7 @@ public class KafkaConsumerConfig {
 
     /**
      * ConcurrentKafkaListenerContainerFactory 빈 생성
+     * - 배치 리스너 모드: poll 한 번에 받은 레코드 전체를 List로 전달
      */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, ContentMessageDto>
@@ -54,7 +60,9 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, ContentMessageDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-        log.info("KafkaListenerContainerFactory configured");
+        factory.setBatchListener(true);
+        factory.setConcurrency(rawContentConcurrency);
+        log.info("KafkaListenerContainerFactory configured (batch mode, concurrency={})", rawContentConcurrency);
         return factory;
     }
 
@@ -0,0 +1,33 @@
+package com.example.devnote.processor_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업용 스레드 풀 설정
+ * - 기본값(스레드 1개)에서는 오래 걸리는 작업(AI 분류, 재색인 등)이 다른 주기 작업(flush 등)을 모두 멈추게 함
+ * - 빈으로 등록하지 않고 스케줄러에만 지정하여 @Async 기본 실행기 자동 설정에 영향 없음
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${processor.scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        registrar.setTaskScheduler(scheduler);
+        log.info("Scheduled task pool configured (pool_size={})", poolSize);
+    }
+}
@@ -1,24 +1,33 @@
 package com.example.devnote.processor_service.controller;
 
 import com.example.devnote.processor_service.dto.ApiResponseDto;
+import com.example.devnote.processor_service.dto.ContentBatchResponseDto;
 import com.example.devnote.processor_service.dto.ContentDto;
+import com.example.devnote.processor_service.dto.CursorPageResponseDto;
 import com.example.devnote.processor_service.dto.PageResponseDto;
+import com.example.devnote.processor_service.dto.SliceResponseDto;
 import com.example.devnote.processor_service.service.ContentService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.Response;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * 콘텐츠 조회용 REST API
  *  - /api/v1/contents        : 페이징된 콘텐츠 리스트 조회
+ *  - /api/v1/contents/slice  : 전체 개수 없이 페이징된 콘텐츠 리스트 조회
+ *  - /api/v1/contents/scroll : 커서 기반 콘텐츠 리스트 조회
  *  - /api/v1/contents/{id}   : 단일 콘텐츠 상세 조회
+ *  - /api/v1/contents/batch  : 여러 콘텐츠 일괄 조회
  *  - /api/v1/contents/search : 키워드 검색
  */
 @RestController
@@ -29,6 +38,10 @@ public class ContentController {
     private final ContentService contentService;
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
+    /** 일괄 조회 1회당 최대 id 수 */
+    @Value("${processor.contents.batch-max-ids:200}")
+    private int batchMaxIds;
+
     /**
      * 페이지네이션, 필터, 정렬 적용된 콘텐츠 리스트 조회
      *
@@ -38,6 +51,7 @@ public class ContentController {
      * @param category 카테고리 필터, 미지정 시 전체
      * @param title    제목 키워드 포함 검색, 미지정 시 전체
      * @param sort     정렬 순서 ("newest" or "oldest"), 기본 newest
+     * @param fields   응답 필드 목록 (쉼표 구분, 예: "title,thumbnailUrl"), 미지정 시 description 제외 전체
      */
     @GetMapping
     public ResponseEntity<ApiResponseDto<PageResponseDto<ContentDto>>> list(
@@ -48,12 +62,13 @@ public class ContentController {
             @RequestParam(required = false) String channelId,
             @RequestParam(required = false) String channelTitle,
             @RequestParam(required = false) String title,
-            @RequestParam(defaultValue = "newest") String sort
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String fields
     ) {
         log.info("API list() page={}, size={}, source={}, category={}, title={}, sort={}",
                 page, size, source, category, title, sort);
 
-        PageResponseDto<ContentDto> result = contentService.getContents(page, size, source, category, channelId, channelTitle, title, sort);
+        PageResponseDto<ContentDto> result = contentService.getContents(page, size, source, category, channelId, channelTitle, title, sort, fields);
 
         return ResponseEntity.ok(
                 ApiResponseDto.<PageResponseDto<ContentDto>>builder()
@@ -64,6 +79,68 @@ public class ContentController {
         );
     }
 
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 반환하는 콘텐츠 리스트 조회
+     * - 파라미터는 list()와 동일, COUNT 쿼리를 생략하여 스크롤 클라이언트의 DB 부하 감소
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponseDto<SliceResponseDto<ContentDto>>> slice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "24") int size,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String channelId,
+            @RequestParam(required = false) String channelTitle,
+            @RequestParam(required = false) String title,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String fields
+    ) {
+        log.info("API slice() page={}, size={}, source={}, category={}, title={}, sort={}",
+                page, size, source, category, title, sort);
+
+        SliceResponseDto<ContentDto> result = contentService.getContentsSlice(page, size, source, category, channelId, channelTitle, title, sort, fields);
+
+        return ResponseEntity.ok(
+                ApiResponseDto.<SliceResponseDto<ContentDto>>builder()
+                        .message("Fetched content list")
+                        .statusCode(200)
+                        .data(result)
+                        .build()
+        );
+    }
+
+    /**
+     * 커서 기반 콘텐츠 리스트 조회 (무한 스크롤용)
+     * - 필터/정렬은 list()와 동일, page 대신 이전 응답의 nextCursor 사용
+     *
+     * @param cursor 다음 페이지 커서, 미지정 시 첫 페이지
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<ContentDto>>> scroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "24") int size,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String channelId,
+            @RequestParam(required = false) String channelTitle,
+            @RequestParam(required = false) String title,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String fields
+    ) {
+        log.info("API scroll() cursor={}, size={}, source={}, category={}, title={}, sort={}",
+                cursor, size, source, category, title, sort);
+
+        CursorPageResponseDto<ContentDto> result = contentService.getContentsByCursor(cursor, size, source, category, channelId, channelTitle, title, sort, fields);
+
+        return ResponseEntity.ok(
+                ApiResponseDto.<CursorPageResponseDto<ContentDto>>builder()
+                        .message("Fetched content list")
+                        .statusCode(200)
+                        .data(result)
+                        .build()
+        );
+    }
+
     /** 헬스 체크: 서비스 정상 여부 반환 */
     @GetMapping("/health")
     public ResponseEntity<ApiResponseDto<String>> health() {
@@ -78,6 +155,29 @@ public class ContentController {
     }
 
 
+    /**
+     * 여러 콘텐츠 일괄 조회 (찜/시청 기록/랭킹 등 다른 서비스의 목록 조회용)
+     * - 요청 id 순서대로 반환, 없거나 숨김 처리된 id는 missingIds로 반환
+     *
+     * @param ids 조회할 콘텐츠 id 목록 (쉼표 구분, 최대 batchMaxIds개)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponseDto<ContentBatchResponseDto>> getByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > batchMaxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many ids (max " + batchMaxIds + ")");
+        }
+
+        ContentBatchResponseDto result = contentService.getContentsByIds(ids);
+
+        return ResponseEntity.ok(
+                ApiResponseDto.<ContentBatchResponseDto>builder()
+                        .message("Fetched contents")
+                        .statusCode(200)
+                        .data(result)
+                        .build()
+        );
+    }
+
     /** 단일 콘텐츠 조회 (찜 기능용 존재 확인) */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponseDto<ContentDto>> getById(
@@ -1,28 +1,46 @@
 package com.example.devnote.processor_service.controller;
 
-import com.example.devnote.processor_service.dto.ContentDto;
 import com.example.devnote.processor_service.service.ContentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
-@RequiredArgsConstructor
 public class ContentRedirectController {
     private final ContentService contentService;
+    /** 리다이렉트 응답 시간 (p50/p99 + 히스토그램) */
+    private final Timer redirectLatency;
+
+    public ContentRedirectController(ContentService contentService, MeterRegistry meterRegistry) {
+        this.contentService = contentService;
+        this.redirectLatency = Timer.builder("content.redirect.latency")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @GetMapping("/r/{id}")
     public ResponseEntity<Void> redirect(@PathVariable Long id, HttpServletRequest req) {
-        // 1) 로컬 조회수 증가
-        contentService.countView(id, req);
+        Timer.Sample sample = Timer.start();
+        try {
+            // 링크 캐시에서 원본 링크 조회 (조회수는 비동기 기록)
+            String link = contentService.resolveRedirect(id, req);
+            if (link == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Content not found: " + id);
+            }
 
-        // 2) 원본 링크로 302 리다이렉트
-        ContentDto dto = contentService.getContentById(id);
-        return ResponseEntity.status(302)
-                .header("Location", dto.getLink())
-                .build();
+            // 원본 링크로 302 리다이렉트
+            return ResponseEntity.status(302)
+                    .header("Location", link)
+                    .build();
+        } finally {
+            sample.stop(redirectLatency);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.example.devnote.processor_service.controller;
 
 import com.example.devnote.processor_service.dto.ApiResponseDto;
+import com.example.devnote.processor_service.dto.CursorPageResponseDto;
 import com.example.devnote.processor_service.es.EsContent;
 import com.example.devnote.processor_service.service.ContentSearchService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +29,7 @@ public class ContentSearchController {
      * @param source 검색 대상 소스 ("YOUTUBE" 또는 "NEWS")
      * @param category (선택) 필터링할 카테고리
      * @param sort (선택) 정렬 옵션
+     * @param fields (선택) 응답 필드 목록 (쉼표 구분), 지정 시 ES source filtering으로 해당 필드만 조회
      * @param pageable 페이지네이션 정보
      * @param request 요청 객체
      */
@@ -37,10 +39,11 @@ public class ContentSearchController {
             @RequestParam("source") String source,
             @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 24) Pageable pageable,
             HttpServletRequest request) {
 
-        Page<EsContent> result = contentSearchService.search(q, source, category, sort, pageable, request);
+        Page<EsContent> result = contentSearchService.search(q, source, category, sort, fields, pageable, request);
 
         return ResponseEntity.ok(
                 ApiResponseDto.<Page<EsContent>>builder()
@@ -51,6 +54,35 @@ public class ContentSearchController {
         );
     }
 
+    /**
+     * 콘텐츠 검색 API (search_after 커서 방식, 깊은 페이지도 첫 페이지와 같은 비용)
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param pit (선택) true 이면 point-in-time으로 페이지 간 같은 스냅샷 유지
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<EsContent>>> searchByCursor(
+            @RequestParam("q") String q,
+            @RequestParam("source") String source,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "24") int size,
+            @RequestParam(defaultValue = "false") boolean pit,
+            HttpServletRequest request) {
+
+        CursorPageResponseDto<EsContent> result = contentSearchService.searchByCursor(
+                q, source, category, sort, fields, cursor, Math.min(Math.max(size, 1), 100), pit, request);
+
+        return ResponseEntity.ok(
+                ApiResponseDto.<CursorPageResponseDto<EsContent>>builder()
+                        .message("Content search successful")
+                        .statusCode(200)
+                        .data(result)
+                        .build()
+        );
+    }
+
     /**
      * 검색어 자동 완성 API
      * @param q 사용자가 입력 중인 키워드
@@ -1,10 +1,11 @@
 package com.example.devnote.processor_service.controller;
 
-import com.example.devnote.processor_service.service.ContentService;
+import com.example.devnote.processor_service.service.ContentDailyCountService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,12 +21,32 @@ import java.util.Map;
 @RequestMapping("/internal/stats")
 public class InternalStatsController {
 
-    private final ContentService contentService;
+    private final ContentDailyCountService contentDailyCountService;
 
     @GetMapping("/content/count-by-day")
     public ResponseEntity<Map<String, Long>> getCountByDay(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        long count = contentService.countByDay(date);
+        long count = contentDailyCountService.countByDay(date);
         return ResponseEntity.ok(Map.of("count", count));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 일자별 신규 콘텐츠 수 (한 번의 조회로 반환)
+     */
+    @GetMapping("/content/count-by-range")
+    public ResponseEntity<Map<String, Long>> getCountByRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(contentDailyCountService.countByRange(start, end));
+    }
+
+    /**
+     * 기간 내 일자별 신규 콘텐츠 수 롤업 재집계 (과거 데이터 보정용)
+     */
+    @PostMapping("/content/daily-counts/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildDailyCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(Map.of("days", contentDailyCountService.rebuild(start, end)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.devnote.processor_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> items; // 조회된 목록
+    private int size; // 요청한 페이지 크기
+    private String nextCursor; // 다음 페이지 요청용 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
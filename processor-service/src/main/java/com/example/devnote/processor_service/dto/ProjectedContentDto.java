@@ -0,0 +1,11 @@
+package com.example.devnote.processor_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 필드 선택(fields=)이 적용된 목록/스크롤 응답 항목
+ * - 선택하지 않아 비어 있는 필드는 응답에서 생략 (단건/배치 조회의 ContentDto는 null 필드도 그대로 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectedContentDto extends ContentDto {
+}
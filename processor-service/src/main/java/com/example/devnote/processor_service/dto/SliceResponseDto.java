@@ -0,0 +1,19 @@
+package com.example.devnote.processor_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+    private List<T> items; // 조회된 목록
+    private int page; // 요청한 페이지 번호
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
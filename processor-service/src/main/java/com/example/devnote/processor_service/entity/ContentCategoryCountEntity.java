@@ -0,0 +1,56 @@
+package com.example.devnote.processor_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * source/카테고리별 ACTIVE 콘텐츠 수 요약
+ * - 콘텐츠 생성/숨김/삭제/재분류와 같은 트랜잭션에서 증감 (content_count = content_count + ?)
+ * - CategoryCountReconciler가 주기적으로 contents 전체 집계로 다시 맞춤
+ * - 카테고리가 없는 콘텐츠는 category = '' 로 집계 (전체 수에만 포함)
+ */
+@Entity
+@Table(name = "content_category_counts")
+@IdClass(ContentCategoryCountEntity.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentCategoryCountEntity {
+    @Id
+    @Column(length = 20)
+    private String source;
+
+    @Id
+    @Column(length = 100)
+    private String category;
+
+    @Column(name = "content_count", nullable = false)
+    private long contentCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable, Comparable<Key> {
+        private static final long serialVersionUID = 1L;
+
+        private String source;
+        private String category;
+
+        public static Key of(ContentEntity e) {
+            return new Key(e.getSource() == null ? "" : e.getSource(), e.getCategory() == null ? "" : e.getCategory());
+        }
+
+        /** 여러 트랜잭션이 같은 순서로 행 잠금을 잡도록 정렬 기준 제공 (데드락 방지) */
+        @Override
+        public int compareTo(Key o) {
+            int c = source.compareTo(o.source);
+            return c != 0 ? c : category.compareTo(o.category);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.devnote.processor_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 일자별(Asia/Seoul) 신규 콘텐츠 수 롤업
+ * - 수집 시 콘텐츠 INSERT와 같은 트랜잭션에서 증가 (content_count = content_count + ?)
+ * - 과거 구간은 ContentService.rebuildDailyCounts로 contents.created_at 기준 재집계
+ */
+@Entity
+@Table(name = "content_daily_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentDailyCountEntity {
+    /** 콘텐츠 생성일 기준 타임존 (stats-service 집계 기준과 동일) */
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Id
+    private LocalDate day;
+
+    @Column(name = "content_count", nullable = false)
+    private long contentCount;
+}
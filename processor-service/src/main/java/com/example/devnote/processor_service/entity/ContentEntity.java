@@ -8,15 +8,50 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 
+/**
+ * 콘텐츠 엔티티
+ * - 인덱스는 목록 조회(status = ACTIVE + 필터 + 정렬)와 수집/분류 경로의 접근 패턴에 맞춰 선언
+ *   · 동등 조건 컬럼을 앞에, 정렬 컬럼을 마지막에 두어 filesort 없이 인덱스 순서대로 읽음
+ *   · InnoDB 보조 인덱스는 PK(id)를 포함하므로 id 타이브레이커 정렬/키셋 커서도 같은 인덱스로 처리
+ * - 실행 계획 회귀 검사: ContentQueryPlanTest
+ */
 @Entity
-@Table(name = "contents")
+@Table(
+        name = "contents",
+        uniqueConstraints = @UniqueConstraint(name = "uk_contents_source_link", columnNames = {"source", "link"}),
+        indexes = {
+                // 전체 목록: 정렬 기준별
+                @Index(name = "idx_contents_status_published", columnList = "status, published_at"),
+                @Index(name = "idx_contents_status_local_views", columnList = "status, local_view_count"),
+                @Index(name = "idx_contents_status_views", columnList = "status, view_count"),
+                @Index(name = "idx_contents_status_favorites", columnList = "status, favorite_count"),
+                @Index(name = "idx_contents_status_comments", columnList = "status, comment_count"),
+                // 카테고리 목록 + 카테고리 집계
+                @Index(name = "idx_contents_category_status_published", columnList = "category, status, published_at"),
+                @Index(name = "idx_contents_category_status_local_views", columnList = "category, status, local_view_count"),
+                @Index(name = "idx_contents_category_status_favorites", columnList = "category, status, favorite_count"),
+                // source + 카테고리 목록, 분류 대상(TBC) 조회, source별 집계
+                @Index(name = "idx_contents_source_category_status_published", columnList = "source, category, status, published_at"),
+                // 채널 목록
+                @Index(name = "idx_contents_channel_id_status_published", columnList = "channel_id, status, published_at"),
+                @Index(name = "idx_contents_channel_title_status_published", columnList = "channel_title, status, published_at"),
+                // 수집 시 중복 링크 조회 (link IN ...)
+                @Index(name = "idx_contents_link", columnList = "link"),
+                // 일자별 생성 수 집계
+                @Index(name = "idx_contents_created_at", columnList = "created_at")
+        }
+)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ContentEntity {
+    /** contents_seq 한 번 호출로 할당받는 ID 개수 (시퀀스 INCREMENT BY 값과 동일해야 함) */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contents_seq")
+    @SequenceGenerator(name = "contents_seq", sequenceName = "contents_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String source;
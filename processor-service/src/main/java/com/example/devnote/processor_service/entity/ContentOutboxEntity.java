@@ -0,0 +1,41 @@
+package com.example.devnote.processor_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * - 콘텐츠 INSERT와 같은 트랜잭션에 기록되고, 커밋 후 ContentOutboxRelay가 이벤트 발행 + 후속 처리 후 삭제
+ * - claimed_until: relay가 행을 가져간 뒤 처리 중인 기한 (그 전에는 다른 relay가 가져가지 않음, 지나면 다시 처리 대상)
+ */
+@Entity
+@Table(name = "content_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentOutboxEntity {
+    /** 콘텐츠 생성 이벤트 (Kafka 토픽명과 동일) */
+    public static final String CONTENT_CREATED = "content.created";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+}
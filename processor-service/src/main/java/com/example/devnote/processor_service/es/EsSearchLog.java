@@ -9,13 +9,17 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
- * Elasticsearch 'search_logs' 인덱스에 저장될 문서
+ * Elasticsearch 일별 검색 로그 인덱스(search_logs-yyyy.MM.dd)에 저장될 문서
+ * - 인덱스 이름은 SearchLogIndexManager가 정하고, 이 클래스는 인덱스 템플릿 매핑에만 사용 (자동 인덱스 생성 안 함)
+ * - (검색어, source, 분) 버킷별 검색 횟수 (SearchTermAggregator가 bulk upsert로 count 누적)
+ * - count가 없는 이전 문서는 검색 1회로 취급
  */
 @Data
 @Builder
-@Document(indexName = "search_logs")
+@Document(indexName = "search_logs", createIndex = false)
 public class EsSearchLog {
     @Id
     private String id;
@@ -24,14 +28,17 @@ public class EsSearchLog {
     private String query; // 검색어
 
     @Field(type = FieldType.Keyword)
-    private String ip; // 검색 ip
-
-    @Field(type = FieldType.Keyword)
-    private String searchTime; // 검색 시간
+    private String searchTime; // 검색 시간 (분 버킷 시작, KST)
 
     @Field(type = FieldType.Keyword)
     private String source; // 검색한 소스 (YOUTUBE, NEWS 등)
 
+    @Field(type = FieldType.Long)
+    private Long count; // 해당 분 버킷의 검색 횟수
+
     @Field(type = FieldType.Date, format = DateFormat.epoch_millis)
     private Instant timestamp;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private List<String> applied; // 최근 반영된 flush 토큰 (재시도 시 중복 누적 방지용)
 }
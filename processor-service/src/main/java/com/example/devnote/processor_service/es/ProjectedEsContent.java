@@ -0,0 +1,23 @@
+package com.example.devnote.processor_service.es;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.util.Set;
+
+/**
+ * 필드 선택(fields=)이 적용된 검색 응답 항목
+ * - source filtering으로 받지 않은 필드는 응답에서 생략 (fields 미지정 검색의 EsContent는 null 필드도 그대로 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectedEsContent extends EsContent {
+
+    /** 선택한 필드만 복사 */
+    public static EsContent of(EsContent source, Set<String> fields) {
+        BeanWrapper from = new BeanWrapperImpl(source);
+        BeanWrapper to = new BeanWrapperImpl(new ProjectedEsContent());
+        fields.forEach(f -> to.setPropertyValue(f, from.getPropertyValue(f)));
+        return (EsContent) to.getWrappedInstance();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.devnote.processor_service.repository;
+
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ContentCategoryCountRepository
+        extends JpaRepository<ContentCategoryCountEntity, ContentCategoryCountEntity.Key> {
+    List<ContentCategoryCountEntity> findBySource(String source);
+}
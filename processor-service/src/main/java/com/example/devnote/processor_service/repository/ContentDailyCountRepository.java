@@ -0,0 +1,14 @@
+package com.example.devnote.processor_service.repository;
+
+import com.example.devnote.processor_service.entity.ContentDailyCountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ContentDailyCountRepository extends JpaRepository<ContentDailyCountEntity, LocalDate> {
+    /**
+     * 기간 내 일자별 신규 콘텐츠 수 (PK 범위 조회 1회, 콘텐츠가 없는 날은 행이 없음)
+     */
+    List<ContentDailyCountEntity> findByDayBetweenOrderByDay(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,34 @@
+package com.example.devnote.processor_service.repository;
+
+import com.example.devnote.processor_service.entity.ContentOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContentOutboxRepository extends JpaRepository<ContentOutboxEntity, Long> {
+    /**
+     * 오래된 순으로 처리 중이 아닌(claim 기한이 없거나 지난) 아웃박스 행을 잠그며 조회
+     * - 다른 인스턴스가 잠근 행은 건너뜀 (SKIP LOCKED), 여러 relay가 같은 행을 중복 발행하지 않도록 함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ContentOutboxEntity o WHERE o.claimedUntil IS NULL OR o.claimedUntil < :now ORDER BY o.id")
+    List<ContentOutboxEntity> findClaimableForUpdate(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 처리 기한 지정 (null이면 즉시 다시 처리 대상)
+     */
+    @Modifying
+    @Query("UPDATE ContentOutboxEntity o SET o.claimedUntil = :until WHERE o.id IN :ids")
+    int updateClaimedUntil(@Param("ids") Collection<Long> ids, @Param("until") Instant until);
+}
@@ -1,24 +1,32 @@
 package com.example.devnote.processor_service.repository;
 
-import com.example.devnote.processor_service.dto.CategoryCountDto;
 import com.example.devnote.processor_service.entity.ContentEntity;
 import com.example.devnote.processor_service.entity.ContentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ContentRepository extends JpaRepository<ContentEntity, Long>, JpaSpecificationExecutor<ContentEntity> {
+public interface ContentRepository extends JpaRepository<ContentEntity, Long>, JpaSpecificationExecutor<ContentEntity>, ContentRepositoryCustom {
     Optional<ContentEntity> findBySourceAndLink(String source, String link);
+
+    /**
+     * 주어진 링크 목록 중 이미 저장된 콘텐츠의 "source:link" 키 목록 조회 (배치 중복 체크용)
+     */
+    @Query("SELECT CONCAT(c.source, ':', c.link) FROM ContentEntity c WHERE c.link IN :links")
+    List<String> findSourceLinkKeysByLinkIn(@Param("links") Collection<String> links);
+
     List<ContentEntity> findBySourceAndCategory(String source, String category);
-    long countBySource(String source);
 
-    @Query("SELECT COUNT(c) FROM ContentEntity c WHERE FUNCTION('DATE', c.createdAt) = :date")
-    long countByCreatedAt(@Param("date") LocalDate date);
+    /** created_at 범위 조건 (DATE() 함수를 씌우면 인덱스를 타지 못함) */
+    @Query("SELECT COUNT(c) FROM ContentEntity c WHERE c.createdAt >= :from AND c.createdAt < :to")
+    long countByCreatedAtBetween(@Param("from") Instant from, @Param("to") Instant to);
 
     /**
      * 특정 카테고리에 속한 모든 콘텐츠 목록을 조회
@@ -26,22 +34,12 @@ public interface ContentRepository extends JpaRepository<ContentEntity, Long>, J
     List<ContentEntity> findByCategory(String category);
 
     /**
-     * 모든 카테고리에 대해 콘텐츠 개수를 집계하여 반환 (TBC 포함)
-     */
-    @Query("SELECT new com.example.devnote.processor_service.dto.CategoryCountDto(c.category, COUNT(c.id)) " +
-            "FROM ContentEntity c " +
-            "WHERE c.category IS NOT NULL " + // TBC 제외 조건 삭제
-            "GROUP BY c.category")
-    List<CategoryCountDto> countByCategory();
-
-    /**
-     * 특정 source의 모든 카테고리에 대해 콘텐츠 개수를 집계하여 반환 (TBC 포함)
+     * 상태만 변경 (엔티티 전체 저장 시 동시에 반영된 카운터/카테고리 변경을 덮어쓰는 문제 방지)
+     * @return 변경된 행 수 (이미 다른 상태면 0)
      */
-    @Query("SELECT new com.example.devnote.processor_service.dto.CategoryCountDto(c.category, COUNT(c.id)) " +
-            "FROM ContentEntity c " +
-            "WHERE c.source = :source AND c.category IS NOT NULL " +
-            "GROUP BY c.category")
-    List<CategoryCountDto> countByCategoryAndSource(@Param("source") String source);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentEntity c SET c.status = :to WHERE c.id = :id AND c.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") ContentStatus from, @Param("to") ContentStatus to);
 
     /**
      * 특정 상태의 콘텐츠 목록 조회
@@ -0,0 +1,75 @@
+package com.example.devnote.processor_service.repository;
+
+import com.example.devnote.processor_service.dto.ContentDto;
+import com.example.devnote.processor_service.dto.ContentStatsUpdateDto;
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
+import com.example.devnote.processor_service.entity.ContentEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Spring Data 파생 쿼리로 표현할 수 없는 콘텐츠 저장소 기능
+ */
+public interface ContentRepositoryCustom {
+    /**
+     * (source, link) 유니크 키 기반 INSERT IGNORE 일괄 저장
+     * - 이미 존재하는 (source, link)는 DB에서 무시되며 예외를 발생시키지 않음
+     * - 새로 저장된 행마다 content.created 아웃박스 행을 같은 트랜잭션에 기록
+     * - source/카테고리별 콘텐츠 수 요약, 일자별 신규 콘텐츠 수 롤업도 같은 트랜잭션에서 증가
+     * @param entities 저장할 엔티티 목록
+     * @return 실제로 새로 저장된 엔티티 목록 (id, createdAt 채워짐)
+     */
+    List<ContentEntity> insertIgnore(List<ContentEntity> entities);
+
+    /**
+     * 찜/댓글 수 증감을 id별 원자적 UPDATE (col = col + ?)로 일괄 반영 (JDBC 배치 1회)
+     * @param deltas contentId별로 합산된 증감값
+     */
+    void applyStatsDeltas(Collection<ContentStatsUpdateDto> deltas);
+
+    /**
+     * 로컬 조회수 증가분을 한 번의 UPDATE ... CASE 문으로 일괄 반영
+     * @param deltas contentId → 증가분
+     */
+    void addLocalViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 카운터 컬럼(조회수/찜/댓글)만 조회 (ES 부분 업데이트용)
+     * @return contentId → {localViewCount, favoriteCount, commentCount} (EsContent 필드명 기준)
+     */
+    Map<Long, Map<String, Object>> findCountersByIdIn(Collection<Long> ids);
+
+    /**
+     * 지정한 속성(컬럼)만 SELECT 하는 목록 조회 (카드 목록용, description 등 큰 컬럼을 읽지 않음)
+     * @param fields 조회할 속성명 (ContentFields 기준), 선택하지 않은 속성은 null
+     * @return 조회 결과 DTO 목록
+     */
+    List<ContentDto> findProjected(Specification<ContentEntity> spec, Sort sort, long offset, int limit, Set<String> fields);
+
+    /**
+     * source/카테고리별 콘텐츠 수 증감을 한 번의 INSERT ... ON DUPLICATE KEY UPDATE로 반영
+     * - 호출한 트랜잭션에 참여하므로 콘텐츠 변경과 함께 커밋/롤백됨
+     * @param deltas (source, category) → 증감값
+     */
+    void applyCategoryCountDeltas(Map<ContentCategoryCountEntity.Key, Long> deltas);
+
+    /**
+     * 아직 TBC인 콘텐츠만 분류 결과 카테고리로 변경 (UPDATE ... WHERE id = ? AND category = 'TBC' 배치 1회)
+     * - 엔티티 전체를 다시 쓰지 않으므로 분류 중 반영된 카운터/상태 변경을 덮어쓰지 않음
+     * - 변경 대상 행을 먼저 잠그고 읽어, 반환값은 실제로 변경된 행의 현재 상태 기준
+     * @param categories contentId → 새 카테고리
+     * @return 실제로 변경된 콘텐츠 (id, source, category(새 값), status, publishedAt만 채워짐)
+     */
+    List<ContentEntity> updateTbcCategories(Map<Long, String> categories);
+
+    /**
+     * ACTIVE 콘텐츠의 source/카테고리별 실제 개수 (잠금 없는 일반 SELECT)
+     * - 요약 테이블 보정용, 요약 테이블과 같은 읽기 전용 트랜잭션(같은 스냅샷)에서 호출
+     */
+    Map<ContentCategoryCountEntity.Key, Long> countActiveByCategory();
+}
@@ -0,0 +1,340 @@
+package com.example.devnote.processor_service.repository;
+
+import com.example.devnote.processor_service.dto.ContentDto;
+import com.example.devnote.processor_service.dto.ProjectedContentDto;
+import com.example.devnote.processor_service.dto.ContentStatsUpdateDto;
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
+import com.example.devnote.processor_service.entity.ContentDailyCountEntity;
+import com.example.devnote.processor_service.entity.ContentEntity;
+import com.example.devnote.processor_service.entity.ContentOutboxEntity;
+import com.example.devnote.processor_service.entity.ContentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * ContentRepositoryCustom 구현체 (JDBC / Criteria 직접 사용)
+ */
+@RequiredArgsConstructor
+public class ContentRepositoryImpl implements ContentRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /** AI 분류 대기 카테고리 */
+    private static final String TBC_CATEGORY = "TBC";
+
+    /** 한 번의 INSERT 문에 담을 최대 행 수 */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private static final String INSERT_COLUMNS =
+            "id, source, category, status, channel_id, title, link, description, channel_title, " +
+            "channel_thumbnail_url, video_form, subscriber_count, local_view_count, favorite_count, " +
+            "comment_count, view_count, duration_seconds, thumbnail_url, published_at, created_at";
+    private static final String INSERT_ROW =
+            "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * MariaDB INSERT IGNORE ... RETURNING 으로 일괄 저장
+     * - 중복 (source, link) 행은 무시되고, RETURNING 결과에는 실제 삽입된 행만 포함됨
+     * - ID는 JPA와 동일하게 contents_seq에서 할당 (AUTO_INCREMENT와의 충돌 방지)
+     * - 삽입된 행마다 content.created 아웃박스 행을 같은 트랜잭션에 기록
+     * - source/카테고리별 콘텐츠 수 요약, 일자별 신규 콘텐츠 수 롤업도 같은 트랜잭션에서 증가
+     */
+    @Override
+    @Transactional
+    public List<ContentEntity> insertIgnore(List<ContentEntity> entities) {
+        if (entities.isEmpty()) return Collections.emptyList();
+
+        List<ContentEntity> inserted = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i += INSERT_CHUNK_SIZE) {
+            List<ContentEntity> chunk = entities.subList(i, Math.min(i + INSERT_CHUNK_SIZE, entities.size()));
+            inserted.addAll(insertChunk(chunk));
+        }
+        return inserted;
+    }
+
+    private List<ContentEntity> insertChunk(List<ContentEntity> chunk) {
+        Instant now = Instant.now();
+        Map<String, ContentEntity> byKey = new HashMap<>();
+        List<Object> args = new ArrayList<>(chunk.size() * 20);
+        Iterator<Long> ids = allocateIds(chunk.size()).iterator();
+
+        for (ContentEntity e : chunk) {
+            if (e.getStatus() == null) e.setStatus(ContentStatus.ACTIVE);
+            e.setCreatedAt(now);
+            byKey.put(e.getSource() + ":" + e.getLink(), e);
+
+            args.add(ids.next());
+            args.add(e.getSource());
+            args.add(e.getCategory());
+            args.add(e.getStatus().name());
+            args.add(e.getChannelId());
+            args.add(e.getTitle());
+            args.add(e.getLink());
+            args.add(e.getDescription());
+            args.add(e.getChannelTitle());
+            args.add(e.getChannelThumbnailUrl());
+            args.add(e.getVideoForm());
+            args.add(e.getSubscriberCount());
+            args.add(e.getLocalViewCount());
+            args.add(e.getFavoriteCount());
+            args.add(e.getCommentCount());
+            args.add(e.getViewCount());
+            args.add(e.getDurationSeconds());
+            args.add(e.getThumbnailUrl());
+            args.add(e.getPublishedAt() != null ? Timestamp.from(e.getPublishedAt()) : null);
+            args.add(Timestamp.from(now));
+        }
+
+        String sql = "INSERT IGNORE INTO contents (" + INSERT_COLUMNS + ") VALUES " +
+                String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW)) +
+                " RETURNING id, source, link";
+
+        List<ContentEntity> inserted = new ArrayList<>();
+        jdbcTemplate.query(sql, rs -> {
+            ContentEntity e = byKey.get(rs.getString("source") + ":" + rs.getString("link"));
+            if (e != null) {
+                e.setId(rs.getLong("id"));
+                inserted.add(e);
+            }
+        }, args.toArray());
+
+        appendOutbox(inserted, now);
+        applyCategoryCountDeltas(inserted.stream()
+                .filter(e -> e.getStatus() == ContentStatus.ACTIVE)
+                .collect(Collectors.groupingBy(ContentCategoryCountEntity.Key::of, TreeMap::new, Collectors.counting())));
+        incrementDailyCount(inserted.size(), now);
+        return inserted;
+    }
+
+    private void appendOutbox(List<ContentEntity> inserted, Instant now) {
+        if (inserted.isEmpty()) return;
+
+        List<Object> args = new ArrayList<>(inserted.size() * 3);
+        for (ContentEntity e : inserted) {
+            args.add(e.getId());
+            args.add(ContentOutboxEntity.CONTENT_CREATED);
+            args.add(Timestamp.from(now));
+        }
+        jdbcTemplate.update(
+                "INSERT INTO content_outbox (content_id, event_type, created_at) VALUES " +
+                        String.join(", ", Collections.nCopies(inserted.size(), "(?, ?, ?)")),
+                args.toArray()
+        );
+    }
+
+    private void incrementDailyCount(int inserted, Instant now) {
+        if (inserted == 0) return;
+        jdbcTemplate.update(
+                "INSERT INTO content_daily_counts (day, content_count) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE content_count = content_count + VALUES(content_count)",
+                LocalDate.ofInstant(now, ContentDailyCountEntity.ZONE), inserted
+        );
+    }
+
+    @Override
+    @Transactional
+    public void applyCategoryCountDeltas(Map<ContentCategoryCountEntity.Key, Long> deltas) {
+        // 키 순서대로 잠금을 잡도록 정렬 (동시 트랜잭션 간 데드락 방지)
+        Map<ContentCategoryCountEntity.Key, Long> sorted = new TreeMap<>(deltas);
+        sorted.values().removeIf(delta -> delta == 0);
+        if (sorted.isEmpty()) return;
+
+        List<Object> args = new ArrayList<>(sorted.size() * 3);
+        sorted.forEach((key, delta) -> {
+            args.add(key.getSource());
+            args.add(key.getCategory());
+            args.add(delta);
+        });
+        jdbcTemplate.update(
+                "INSERT INTO content_category_counts (source, category, content_count) VALUES " +
+                        String.join(", ", Collections.nCopies(sorted.size(), "(?, ?, ?)")) +
+                        " ON DUPLICATE KEY UPDATE content_count = content_count + VALUES(content_count)",
+                args.toArray()
+        );
+    }
+
+    @Override
+    @Transactional
+    public List<ContentEntity> updateTbcCategories(Map<Long, String> categories) {
+        if (categories.isEmpty()) return Collections.emptyList();
+
+        // 아직 TBC인 행만 잠금 후 조회 (같은 트랜잭션의 UPDATE 대상과 정확히 일치)
+        String placeholders = String.join(", ", Collections.nCopies(categories.size(), "?"));
+        List<ContentEntity> changed = jdbcTemplate.query(
+                "SELECT id, source, status, published_at FROM contents " +
+                        "WHERE id IN (" + placeholders + ") AND category = ? ORDER BY id FOR UPDATE",
+                (rs, i) -> {
+                    ContentEntity e = new ContentEntity();
+                    e.setId(rs.getLong("id"));
+                    e.setSource(rs.getString("source"));
+                    e.setCategory(categories.get(e.getId()));
+                    e.setStatus(ContentStatus.valueOf(rs.getString("status")));
+                    Timestamp publishedAt = rs.getTimestamp("published_at");
+                    e.setPublishedAt(publishedAt != null ? publishedAt.toInstant() : null);
+                    return e;
+                },
+                appendArg(categories.keySet(), TBC_CATEGORY)
+        );
+        if (changed.isEmpty()) return changed;
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE contents SET category = ? WHERE id = ? AND category = ?",
+                changed.stream()
+                        .map(e -> new Object[]{e.getCategory(), e.getId(), TBC_CATEGORY})
+                        .toList()
+        );
+        return changed;
+    }
+
+    private static Object[] appendArg(Collection<?> args, Object last) {
+        List<Object> all = new ArrayList<>(args);
+        all.add(last);
+        return all.toArray();
+    }
+
+    @Override
+    public Map<ContentCategoryCountEntity.Key, Long> countActiveByCategory() {
+        // INSERT ... SELECT와 달리 일반 SELECT는 contents 인덱스에 공유 잠금을 걸지 않음 (수집 INSERT를 막지 않음)
+        Map<ContentCategoryCountEntity.Key, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT COALESCE(source, '') AS source, COALESCE(category, '') AS category, COUNT(*) AS cnt " +
+                        "FROM contents WHERE status = ? GROUP BY COALESCE(source, ''), COALESCE(category, '')",
+                rs -> {
+                    counts.put(new ContentCategoryCountEntity.Key(rs.getString("source"), rs.getString("category")),
+                            rs.getLong("cnt"));
+                },
+                ContentStatus.ACTIVE.name()
+        );
+        return counts;
+    }
+
+    @Override
+    @Transactional
+    public void applyStatsDeltas(Collection<ContentStatsUpdateDto> deltas) {
+        if (deltas.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "UPDATE contents SET favorite_count = favorite_count + ?, comment_count = comment_count + ? WHERE id = ?",
+                deltas.stream()
+                        .map(d -> new Object[]{d.getFavoriteDelta(), d.getCommentDelta(), d.getContentId()})
+                        .toList()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void addLocalViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("UPDATE contents SET local_view_count = local_view_count + CASE id");
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+        deltas.forEach((id, delta) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(id);
+            args.add(delta);
+        });
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(deltas.size(), "?")))
+                .append(")");
+        args.addAll(deltas.keySet());
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Override
+    public Map<Long, Map<String, Object>> findCountersByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, Map<String, Object>> counters = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query(
+                "SELECT id, local_view_count, favorite_count, comment_count FROM contents WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    Map<String, Object> fields = new HashMap<>();
+                    fields.put("localViewCount", rs.getLong("local_view_count"));
+                    fields.put("favoriteCount", rs.getLong("favorite_count"));
+                    fields.put("commentCount", rs.getLong("comment_count"));
+                    counters.put(rs.getLong("id"), fields);
+                },
+                ids.toArray()
+        );
+        return counters;
+    }
+
+    @Override
+    public List<ContentDto> findProjected(Specification<ContentEntity> spec, Sort sort, long offset, int limit, Set<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ContentEntity> root = query.from(ContentEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        fields.forEach(f -> selections.add(root.get(f).alias(f)));
+        query.multiselect(selections);
+
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<ContentDto> dtos = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            BeanWrapper dto = new BeanWrapperImpl(new ProjectedContentDto());
+            for (TupleElement<?> e : row.getElements()) {
+                dto.setPropertyValue(e.getAlias(), row.get(e));
+            }
+            dtos.add((ContentDto) dto.getWrappedInstance());
+        }
+        return dtos;
+    }
+
+    /**
+     * contents_seq에서 n개의 ID 할당
+     * - Hibernate pooled 옵티마이저와 같은 방식으로 NEXTVAL 값 hi 하나당 [hi - size + 1, hi] 범위를 사용
+     * - MariaDB Sequence 엔진(seq_1_to_N)으로 필요한 NEXTVAL을 한 번의 쿼리로 조회
+     */
+    private List<Long> allocateIds(int n) {
+        int size = ContentEntity.ID_ALLOCATION_SIZE;
+        int blocks = (n + size - 1) / size;
+        List<Long> his = jdbcTemplate.queryForList(
+                "SELECT NEXTVAL(contents_seq) FROM seq_1_to_" + blocks, Long.class);
+
+        List<Long> ids = new ArrayList<>(blocks * size);
+        for (Long hi : his) {
+            for (long id = hi - size + 1; id <= hi; id++) {
+                ids.add(id);
+            }
+        }
+        return ids.subList(0, n);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.devnote.processor_service.service;
 
 import com.example.devnote.processor_service.config.ClassificationProperties;
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
 import com.example.devnote.processor_service.entity.ContentEntity;
+import com.example.devnote.processor_service.entity.ContentStatus;
 import com.example.devnote.processor_service.repository.ContentRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,8 +13,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -25,10 +28,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CategoryClassificationService {
     private final ContentRepository contentRepository;
+    private final ContentCountCache contentCountCache;
+    private final ContentDetailCache contentDetailCache;
+    private final CategoryNewestCache categoryNewestCache;
+    private final TransactionTemplate transactionTemplate;
     private final ClassificationProperties props;
     private final Client genaiClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private static final String TBC_CATEGORY = "TBC";
+
     /** 한 번의 API 호출에 보낼 콘텐츠의 최대 개수 */
     private static final int BATCH_SIZE = 50;
 
@@ -38,14 +47,14 @@ public class CategoryClassificationService {
     @Scheduled(fixedDelayString = "3600000")
     public void classifyTbcContents() {
         // 1. 유튜브 콘텐츠 분류
-        List<ContentEntity> youtubeToClassify = contentRepository.findBySourceAndCategory("YOUTUBE", "TBC");
+        List<ContentEntity> youtubeToClassify = contentRepository.findBySourceAndCategory("YOUTUBE", TBC_CATEGORY);
         if (!youtubeToClassify.isEmpty()) {
             log.info("[AI-CLASSIFY] Found {} YOUTUBE contents to classify.", youtubeToClassify.size());
             processBatch(youtubeToClassify, props.getYoutube());
         }
 
         // 2. 뉴스 콘텐츠 분류
-        List<ContentEntity> newsToClassify = contentRepository.findBySourceAndCategory("NEWS", "TBC");
+        List<ContentEntity> newsToClassify = contentRepository.findBySourceAndCategory("NEWS", TBC_CATEGORY);
         if (!newsToClassify.isEmpty()) {
             log.info("[AI-CLASSIFY] Found {} NEWS contents to classify.", newsToClassify.size());
             processBatch(newsToClassify, props.getNews());
@@ -83,17 +92,36 @@ public class CategoryClassificationService {
 
                 Map<Long, String> classifiedCategories = parseAiResponse(responseText);
 
-                List<ContentEntity> updatedInBatch = new ArrayList<>();
+                Map<Long, String> validCategories = new HashMap<>();
                 for (ContentEntity entity : batch) {
                     String category = classifiedCategories.get(entity.getId());
                     if (category != null && scheme.getLabels().contains(category)) {
-                        entity.setCategory(category);
-                        updatedInBatch.add(entity);
+                        validCategories.put(entity.getId(), category);
                     }
                 }
 
+                // 분류하는 동안 반영된 카운터/상태 변경을 덮어쓰지 않도록 category 컬럼만, 아직 TBC인 행만 변경
+                // 카테고리 수 증감과 캐시 반영은 실제로 변경된 행 기준
+                List<ContentEntity> updatedInBatch = validCategories.isEmpty() ? List.of() :
+                        transactionTemplate.execute(status -> {
+                            List<ContentEntity> changed = contentRepository.updateTbcCategories(validCategories);
+                            Map<ContentCategoryCountEntity.Key, Long> countDeltas = new HashMap<>();
+                            for (ContentEntity entity : changed) {
+                                if (entity.getStatus() != ContentStatus.ACTIVE) continue;
+                                countDeltas.merge(new ContentCategoryCountEntity.Key(entity.getSource() == null ? "" : entity.getSource(), TBC_CATEGORY), -1L, Long::sum);
+                                countDeltas.merge(ContentCategoryCountEntity.Key.of(entity), 1L, Long::sum);
+                            }
+                            contentRepository.applyCategoryCountDeltas(countDeltas);
+                            return changed;
+                        });
+
                 if (!updatedInBatch.isEmpty()) {
-                    contentRepository.saveAll(updatedInBatch);
+                    updatedInBatch.forEach(e -> categoryNewestCache.remove(e.getId(), e.getSource(), TBC_CATEGORY));
+                    contentCountCache.invalidate();
+                    contentDetailCache.evict(updatedInBatch.stream().map(ContentEntity::getId).toList());
+                    categoryNewestCache.add(updatedInBatch.stream()
+                            .filter(e -> e.getStatus() == ContentStatus.ACTIVE)
+                            .toList());
                     log.info("[AI-CLASSIFY] Batch {}/{} finished. Successfully updated {} contents in DB.", currentBatchNum, totalBatches, updatedInBatch.size());
                 } else {
                     log.warn("[AI-CLASSIFY] Batch {}/{} finished. No items were updated.", currentBatchNum, totalBatches);
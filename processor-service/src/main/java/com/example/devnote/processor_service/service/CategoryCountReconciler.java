@@ -0,0 +1,78 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
+import com.example.devnote.processor_service.repository.ContentCategoryCountRepository;
+import com.example.devnote.processor_service.repository.ContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 콘텐츠 수 요약(content_category_counts) 정합성 보정
+ * - 기동 직후 1회 + 주기적으로 ACTIVE 콘텐츠 실제 개수와 요약 테이블을 비교하여 차이만 증감으로 반영
+ *   · 두 값은 같은 읽기 전용 트랜잭션(같은 스냅샷)에서 잠금 없이 읽으므로 수집 INSERT/요약 증감을 막지 않음
+ *   · 보정은 차이(delta)만 짧은 트랜잭션으로 더하므로, 읽은 뒤 커밋된 다른 증감을 덮어쓰지 않음
+ * - 어긋난 (source, category) 수를 로그/메트릭으로 남김
+ */
+@Component
+@Slf4j
+public class CategoryCountReconciler {
+    private final ContentRepository contentRepository;
+    private final ContentCategoryCountRepository categoryCountRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final Counter drifted;
+
+    public CategoryCountReconciler(
+            ContentRepository contentRepository,
+            ContentCategoryCountRepository categoryCountRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.contentRepository = contentRepository;
+        this.categoryCountRepository = categoryCountRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.drifted = meterRegistry.counter("content.category.counts.drifted");
+    }
+
+    @Scheduled(fixedDelayString = "${processor.category-counts.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            // 같은 스냅샷에서 실제 개수와 요약 테이블을 읽어 차이 계산 (콘텐츠 변경과 요약 증감은 같은 트랜잭션으로 커밋됨)
+            Map<ContentCategoryCountEntity.Key, Long> corrections = snapshotTransaction.execute(status -> {
+                Map<ContentCategoryCountEntity.Key, Long> actual = contentRepository.countActiveByCategory();
+                Map<ContentCategoryCountEntity.Key, Long> diff = new TreeMap<>(actual);
+                snapshot().forEach((key, count) -> diff.merge(key, -count, Long::sum));
+                diff.values().removeIf(delta -> delta == 0);
+                return diff;
+            });
+
+            if (corrections == null || corrections.isEmpty()) {
+                log.debug("[CATEGORY-COUNTS] Counts are consistent");
+                return;
+            }
+            contentRepository.applyCategoryCountDeltas(corrections);
+            drifted.increment(corrections.size());
+            log.warn("[CATEGORY-COUNTS] Reconciled {} drifted (source, category) counts: {}", corrections.size(), corrections);
+        } catch (Exception ex) {
+            log.error("[CATEGORY-COUNTS] Reconcile failed", ex);
+        }
+    }
+
+    private Map<ContentCategoryCountEntity.Key, Long> snapshot() {
+        return categoryCountRepository.findAll().stream()
+                .collect(Collectors.toMap(
+                        row -> new ContentCategoryCountEntity.Key(row.getSource(), row.getCategory()),
+                        ContentCategoryCountEntity::getContentCount));
+    }
+}
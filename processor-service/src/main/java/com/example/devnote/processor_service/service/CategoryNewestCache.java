@@ -0,0 +1,213 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.dto.ContentDto;
+import com.example.devnote.processor_service.entity.ContentEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카테고리별 최신순(newest) 콘텐츠 id 캐시
+ * - 키: cache:newest:{category}, cache:newest:{source}:{category} (ZSET, score = publishedAt epoch millis)
+ * - 각 ZSET은 항상 "DB 최신순 정렬의 앞부분"과 정확히 일치하도록 유지 (최대 size개)
+ *   · 추가: ZSET의 마지막 항목보다 앞에 오는 경우에만 추가 후 size개로 자름 (뒤에 오면 알 수 없는 구간이므로 생략)
+ *   · 삭제/숨김/재분류: 해당 키에서 제거 (앞부분 일치는 유지되고 길이만 줄어듦)
+ * - 키가 없으면 DB에서 상위 size개로 재구성, TTL로 주기적으로 재구성하여 누적 오차 방지
+ *   · 추가/삭제는 짧은 TTL의 보조 키(cache:newest-recent:..., cache:newest-removed:...)에도 기록
+ *   · 재구성은 키가 여전히 없을 때만 DB 스냅샷 + 보조 키를 합쳐 한 번에 기록 (Lua)
+ *     → 스냅샷 조회와 기록 사이에 커밋된 추가/삭제가 유실되지 않음
+ * - publishedAt이 null인 콘텐츠는 DB 최신순에서 항상 마지막이므로 ZSET에 넣지 않음
+ */
+@Component
+@Slf4j
+public class CategoryNewestCache {
+    private static final String KEY_PREFIX = "cache:newest:";
+    private static final String RECENT_PREFIX = "cache:newest-recent:";
+    private static final String REMOVED_PREFIX = "cache:newest-removed:";
+
+    /**
+     * 보조 키에 기록 후, 마지막 항목보다 앞에 올 때만 추가하고 상위 N개 유지
+     * KEYS[1] = ZSET, KEYS[2] = 최근 추가 ZSET, KEYS[3] = 최근 삭제 SET
+     * ARGV[1] = score, ARGV[2] = member, ARGV[3] = 최대 크기, ARGV[4] = 보조 키 TTL(초)
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[2], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "redis.call('SREM', KEYS[3], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "local last = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "local score = tonumber(ARGV[1]) " +
+            "local lastScore = tonumber(last[2]) " +
+            "if score < lastScore or (score == lastScore and ARGV[2] < last[1]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], score, ARGV[2]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 보조 키에 삭제 기록 후 제거
+     * KEYS[1] = ZSET, KEYS[2] = 최근 추가 ZSET, KEYS[3] = 최근 삭제 SET, ARGV[1] = member, ARGV[2] = 보조 키 TTL(초)
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('SADD', KEYS[3], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /**
+     * 키가 없을 때만 DB 스냅샷 + 최근 추가로 재구성하고 최근 삭제를 제외
+     * - 스냅샷이 size개 미만이면 카테고리 전체이므로 최근 추가는 모두 포함,
+     *   size개면 스냅샷 마지막 항목보다 앞에 오는 최근 추가만 포함 (ADD_SCRIPT와 같은 규칙)
+     * KEYS[1] = ZSET, KEYS[2] = 최근 추가 ZSET, KEYS[3] = 최근 삭제 SET
+     * ARGV[1] = 최대 크기, ARGV[2] = TTL(초), ARGV[3..] = score, member 쌍 (최신순)
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local size = tonumber(ARGV[1]) " +
+            "local n = (#ARGV - 2) / 2 " +
+            "for i = 3, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "local lastScore, lastMember " +
+            "if n >= size then lastScore = tonumber(ARGV[#ARGV - 1]) lastMember = ARGV[#ARGV] end " +
+            "local recent = redis.call('ZRANGE', KEYS[2], 0, -1, 'WITHSCORES') " +
+            "for i = 1, #recent, 2 do " +
+            "  local score = tonumber(recent[i + 1]) " +
+            "  if lastScore == nil or score > lastScore or (score == lastScore and recent[i] > lastMember) then " +
+            "    redis.call('ZADD', KEYS[1], score, recent[i]) end " +
+            "end " +
+            "local removed = redis.call('SMEMBERS', KEYS[3]) " +
+            "for i = 1, #removed do redis.call('ZREM', KEYS[1], removed[i]) end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(size + 1)) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate sredis;
+    private final int size;
+    private final Duration ttl;
+    private final Duration sideTtl;
+
+    public CategoryNewestCache(
+            StringRedisTemplate sredis,
+            @Value("${processor.newest-cache.size:100}") int size,
+            @Value("${processor.newest-cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${processor.newest-cache.side-ttl-seconds:60}") long sideTtlSeconds
+    ) {
+        this.sredis = sredis;
+        this.size = size;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.sideTtl = Duration.ofSeconds(sideTtlSeconds);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 최신순 [start, start + count) 구간의 id 조회
+     * @return id 목록, 키가 없으면 null, 캐시된 범위를 벗어나면 빈 목록
+     */
+    public List<Long> range(String source, String category, long start, int count) {
+        String key = key(source, category);
+        List<Object> res = sredis.executePipelined((RedisCallback<Object>) conn -> {
+            byte[] k = key.getBytes(StandardCharsets.UTF_8);
+            conn.zSetCommands().zCard(k);
+            conn.zSetCommands().zRevRange(k, start, start + count - 1);
+            return null;
+        });
+        Long card = (Long) res.get(0);
+        if (card == null || card == 0) return null;
+        if (card < start + count) return List.of();
+
+        @SuppressWarnings("unchecked")
+        Collection<String> members = (Collection<String>) res.get(1);
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * DB에서 조회한 최신순 상위 콘텐츠로 ZSET 재구성 (publishedAt 내림차순, id 내림차순 정렬된 목록)
+     * - 그 사이 다른 요청이 이미 재구성했으면 아무것도 하지 않음
+     * - 스냅샷 조회 이후의 추가/삭제는 보조 키에서 합쳐 반영
+     */
+    public void rebuild(String source, String category, List<ContentDto> newest) {
+        String key = key(source, category);
+        List<ContentDto> scored = newest.stream().filter(c -> c.getPublishedAt() != null).limit(size).toList();
+        List<String> args = new ArrayList<>(scored.size() * 2 + 2);
+        args.add(String.valueOf(size));
+        args.add(String.valueOf(ttl.getSeconds()));
+        for (ContentDto c : scored) {
+            args.add(String.valueOf(c.getPublishedAt().toEpochMilli()));
+            args.add(member(c.getId()));
+        }
+        sredis.execute(REBUILD_SCRIPT, sideKeys(key), args.toArray());
+    }
+
+    /**
+     * 신규/재분류 콘텐츠를 해당 카테고리 키에 반영
+     */
+    public void add(Collection<ContentEntity> contents) {
+        try {
+            for (ContentEntity c : contents) {
+                if (c.getPublishedAt() == null || c.getCategory() == null) continue;
+                for (String key : keys(c.getSource(), c.getCategory())) {
+                    sredis.execute(ADD_SCRIPT, sideKeys(key),
+                            String.valueOf(c.getPublishedAt().toEpochMilli()),
+                            member(c.getId()),
+                            String.valueOf(size),
+                            String.valueOf(sideTtl.getSeconds()));
+                }
+            }
+        } catch (Exception ex) {
+            log.error("Failed to add {} contents to newest cache", contents.size(), ex);
+        }
+    }
+
+    /**
+     * 숨김/삭제/재분류 전 카테고리에서 콘텐츠 제거
+     */
+    public void remove(Long id, String source, String category) {
+        if (category == null) return;
+        try {
+            for (String key : keys(source, category)) {
+                sredis.execute(REMOVE_SCRIPT, sideKeys(key), member(id), String.valueOf(sideTtl.getSeconds()));
+            }
+        } catch (Exception ex) {
+            log.error("Failed to remove content {} from newest cache", id, ex);
+        }
+    }
+
+    /** [ZSET, 최근 추가, 최근 삭제] 키 */
+    private static List<String> sideKeys(String key) {
+        String suffix = key.substring(KEY_PREFIX.length());
+        return List.of(key, RECENT_PREFIX + suffix, REMOVED_PREFIX + suffix);
+    }
+
+    private List<String> keys(String source, String category) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(key(null, category));
+        if (source != null) keys.add(key(source, category));
+        return keys;
+    }
+
+    private static String key(String source, String category) {
+        return source == null || source.isBlank()
+                ? KEY_PREFIX + category
+                : KEY_PREFIX + source.toUpperCase(Locale.ROOT) + ":" + category;
+    }
+
+    /** 같은 publishedAt끼리 ZSET 사전순 = id 숫자순이 되도록 0으로 채운 고정 길이 멤버 */
+    private static String member(Long id) {
+        return String.format("%019d", id);
+    }
+}
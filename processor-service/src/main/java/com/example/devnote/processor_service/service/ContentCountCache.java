@@ -0,0 +1,82 @@
+package com.example.devnote.processor_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 콘텐츠 목록 전체 개수(COUNT) 캐시
+ * - 정규화된 필터 조합별로 짧은 TTL 동안 Redis에 보관
+ * - 수집/숨김/삭제/재분류 시 세대(generation) 번호를 올려 기존 캐시 전체를 한 번에 무효화
+ */
+@Component
+@Slf4j
+public class ContentCountCache {
+    private static final String GENERATION_KEY = "count:contents:gen";
+    private static final String KEY_PREFIX = "count:contents:";
+
+    private final StringRedisTemplate sredis;
+    private final Duration ttl;
+
+    public ContentCountCache(
+            StringRedisTemplate sredis,
+            @Value("${processor.contents.count-cache-ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.sredis = sredis;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 필터 조합의 전체 개수 조회 (캐시 미스 또는 Redis 장애 시 loader로 계산)
+     */
+    public long get(LongSupplier loader, String source, String category, String channelId, String channelTitle, String title) {
+        String key;
+        try {
+            String gen = sredis.opsForValue().get(GENERATION_KEY);
+            key = KEY_PREFIX + (gen == null ? "0" : gen) + ":" + filterHash(source, category, channelId, channelTitle, title);
+            String cached = sredis.opsForValue().get(key);
+            if (cached != null) return Long.parseLong(cached);
+        } catch (Exception ex) {
+            log.warn("Count cache unavailable, counting from DB", ex);
+            return loader.getAsLong();
+        }
+
+        long count = loader.getAsLong();
+        try {
+            sredis.opsForValue().set(key, String.valueOf(count), ttl);
+        } catch (Exception ex) {
+            log.warn("Failed to cache content count", ex);
+        }
+        return count;
+    }
+
+    /**
+     * 모든 필터 조합의 캐시 무효화 (이전 세대 키는 TTL로 자연 만료)
+     */
+    public void invalidate() {
+        try {
+            sredis.opsForValue().increment(GENERATION_KEY);
+        } catch (Exception ex) {
+            log.warn("Failed to invalidate content count cache", ex);
+        }
+    }
+
+    /** 조회 조건과 같은 규칙(빈 값 = 미지정, 제목은 소문자 비교)으로 정규화한 필터 조합의 해시 */
+    private static String filterHash(String source, String category, String channelId, String channelTitle, String title) {
+        String normalized = String.join("\u0000",
+                normalize(source), normalize(category), normalize(channelId), normalize(channelTitle),
+                normalize(title).toLowerCase(Locale.ROOT));
+        return UUID.nameUUIDFromBytes(normalized.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static String normalize(String filter) {
+        return filter == null || filter.isBlank() ? "" : filter;
+    }
+}
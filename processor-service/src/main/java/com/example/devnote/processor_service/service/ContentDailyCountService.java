@@ -0,0 +1,97 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.entity.ContentDailyCountEntity;
+import com.example.devnote.processor_service.repository.ContentDailyCountRepository;
+import com.example.devnote.processor_service.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 일자별 신규 콘텐츠 수 롤업 조회/재집계 (내부 통계용)
+ * - 수집 시 증가된 content_daily_counts를 읽으므로 contents 테이블을 스캔하지 않음
+ * - 롤업 도입 이전 구간(또는 삭제 반영이 필요한 구간)은 rebuild로 created_at 범위 집계 후 덮어씀
+ */
+@Service
+@Slf4j
+public class ContentDailyCountService {
+    private final ContentDailyCountRepository dailyCountRepository;
+    private final ContentRepository contentRepository;
+    private final int maxRangeDays;
+
+    public ContentDailyCountService(
+            ContentDailyCountRepository dailyCountRepository,
+            ContentRepository contentRepository,
+            @Value("${processor.daily-counts.max-range-days:3660}") int maxRangeDays
+    ) {
+        this.dailyCountRepository = dailyCountRepository;
+        this.contentRepository = contentRepository;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * 특정 날짜에 생성된 콘텐츠 수
+     */
+    public long countByDay(LocalDate date) {
+        return dailyCountRepository.findById(date)
+                .map(ContentDailyCountEntity::getContentCount)
+                .orElse(0L);
+    }
+
+    /**
+     * 기간 내 일자별 신규 콘텐츠 수 (start~end 포함, 콘텐츠가 없는 날은 0)
+     * @return ISO 날짜(yyyy-MM-dd) → 개수, 날짜 오름차순
+     */
+    public Map<String, Long> countByRange(LocalDate start, LocalDate end) {
+        validateRange(start, end);
+
+        Map<LocalDate, Long> rows = new LinkedHashMap<>();
+        dailyCountRepository.findByDayBetweenOrderByDay(start, end)
+                .forEach(row -> rows.put(row.getDay(), row.getContentCount()));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            result.put(date.toString(), rows.getOrDefault(date, 0L));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 롤업을 contents.created_at 기준으로 재집계하여 덮어씀
+     * - 일자별 created_at 범위 COUNT (idx_contents_created_at 범위 조회)
+     * - 배포 후 한 번 실행하여 롤업 이전 데이터를 채움
+     * @return 재집계한 일수
+     */
+    @Transactional
+    public int rebuild(LocalDate start, LocalDate end) {
+        validateRange(start, end);
+
+        int days = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            long count = contentRepository.countByCreatedAtBetween(
+                    date.atStartOfDay(ContentDailyCountEntity.ZONE).toInstant(),
+                    date.plusDays(1).atStartOfDay(ContentDailyCountEntity.ZONE).toInstant());
+            dailyCountRepository.save(new ContentDailyCountEntity(date, count));
+            days++;
+        }
+        log.info("[DAILY-COUNTS] Rebuilt {} days from {} to {}", days, start, end);
+        return days;
+    }
+
+    private void validateRange(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "end must not be before start");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "range must be at most " + maxRangeDays + " days");
+        }
+    }
+}
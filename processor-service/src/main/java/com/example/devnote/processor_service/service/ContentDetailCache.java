@@ -0,0 +1,227 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.dto.ContentDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 콘텐츠 상세(ContentDto) 2단계 read-through 캐시
+ * - L1: 인스턴스 로컬 Caffeine, L2: 인스턴스 간 공유 Redis, 둘 다 미스면 loader(DB)로 조회
+ * - 같은 id 동시 미스는 Caffeine이 한 번만 로드하도록 묶음 (single-flight)
+ * - 조회수/찜/댓글/카테고리/상태 변경 시 evict → Redis 키 삭제 + Pub/Sub으로 모든 인스턴스의 L1 무효화
+ * - evict마다 id별 버전 키(content:dto-ver:{id})를 증가시키고, DB 조회 결과는 조회 전에 읽은 버전이
+ *   그대로일 때만 Redis에 기록 (Lua) → evict 이전에 DB를 읽은 느린 loader가 오래된 DTO를 되살리지 않음
+ *   · 트랜잭션 안의 evict는 커밋 후 한 번 더 수행 (커밋 전 값을 읽은 loader 대비)
+ */
+@Component
+@Slf4j
+public class ContentDetailCache {
+    static final String INVALIDATION_CHANNEL = "content:changed";
+    private static final String KEY_PREFIX = "content:dto:";
+    private static final String VERSION_PREFIX = "content:dto-ver:";
+
+    /**
+     * 버전이 조회 시점과 같을 때만 기록
+     * KEYS[1] = DTO 키, KEYS[2] = 버전 키, ARGV[1] = 조회 시점 버전 (없으면 ""), ARGV[2] = JSON, ARGV[3] = TTL(초)
+     */
+    private static final RedisScript<Long> WRITE_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[2]) or '' " +
+            "if v ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate sredis;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, ContentDto> local;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public ContentDetailCache(
+            StringRedisTemplate sredis,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${processor.content-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${processor.content-cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${processor.content-cache.redis-ttl-seconds:600}") long redisTtlSeconds
+    ) {
+        this.sredis = sredis;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "content.detail.local");
+        this.redisHits = meterRegistry.counter("content.detail.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("content.detail.redis", "result", "miss");
+
+        // 다른 인스턴스(및 자신)가 발행한 변경 id의 L1 항목 무효화
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            local.invalidateAll(Arrays.stream(body.split(","))
+                    .filter(s -> !s.isBlank())
+                    .map(Long::valueOf)
+                    .toList());
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회
+     * @param loader DB 조회 함수, 없거나 노출 불가 콘텐츠면 null 반환 (null은 캐시하지 않음)
+     * @return 콘텐츠 DTO, 없으면 null
+     */
+    public ContentDto get(Long id, Function<Long, ContentDto> loader) {
+        return local.get(id, key -> {
+            Map<Long, String> versions = new HashMap<>();
+            ContentDto cached = readRedis(Set.of(key), versions).get(key);
+            if (cached != null) {
+                redisHits.increment();
+                return cached;
+            }
+            redisMisses.increment();
+
+            ContentDto loaded = loader.apply(key);
+            if (loaded != null) writeRedis(key, loaded, versions.get(key));
+            return loaded;
+        });
+    }
+
+    /**
+     * 여러 id를 한 번에 조회 (L1 → L2 MGET → loader 1회)
+     * @param loader L1/L2 모두 미스인 id 집합을 받아 DB에서 한 번에 조회하는 함수 (없는 id는 결과에서 제외)
+     * @return id → DTO (없는 id는 포함되지 않음)
+     */
+    public Map<Long, ContentDto> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, ContentDto>> loader) {
+        return local.getAll(ids, missing -> {
+            Map<Long, String> versions = new HashMap<>();
+            Map<Long, ContentDto> found = new HashMap<>(readRedis(missing, versions));
+            redisHits.increment(found.size());
+            redisMisses.increment(missing.size() - found.size());
+
+            Set<Long> toLoad = new HashSet<>(missing);
+            toLoad.removeAll(found.keySet());
+            if (!toLoad.isEmpty()) {
+                Map<Long, ContentDto> loaded = loader.apply(toLoad);
+                loaded.forEach((id, dto) -> writeRedis(id, dto, versions.get(id)));
+                found.putAll(loaded);
+            }
+            return found;
+        });
+    }
+
+    /**
+     * 변경된 콘텐츠의 캐시 무효화 (모든 인스턴스)
+     */
+    public void evict(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        // 트랜잭션 안에서 호출되면 커밋 전 값을 읽은 loader가 기록하지 못하도록 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> pendingIds = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(pendingIds);
+                }
+            });
+        }
+        invalidate(ids);
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    private void invalidate(Collection<Long> ids) {
+        local.invalidateAll(ids);
+        try {
+            // 버전 증가 → DTO 삭제 순서 (삭제 이후 기록하려는 loader는 버전 불일치로 기록하지 못함)
+            long versionTtl = redisTtl.getSeconds() * 2;
+            sredis.executePipelined((RedisCallback<Object>) conn -> {
+                for (Long id : ids) {
+                    byte[] versionKey = (VERSION_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+                    conn.stringCommands().incr(versionKey);
+                    conn.keyCommands().expire(versionKey, versionTtl);
+                    conn.keyCommands().del((KEY_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            sredis.convertAndSend(INVALIDATION_CHANNEL,
+                    ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception ex) {
+            log.warn("Failed to publish content cache invalidation for {} ids", ids.size(), ex);
+        }
+    }
+
+    /**
+     * DTO와 버전을 한 번의 MGET으로 조회
+     * @param versions 조회한 id별 버전을 채울 맵 (버전 키가 없으면 "")
+     */
+    private Map<Long, ContentDto> readRedis(Set<? extends Long> ids, Map<Long, String> versions) {
+        Map<Long, ContentDto> found = new HashMap<>();
+        List<Long> keys = List.copyOf(ids);
+        try {
+            List<String> redisKeys = new ArrayList<>(keys.size() * 2);
+            keys.forEach(id -> redisKeys.add(KEY_PREFIX + id));
+            keys.forEach(id -> redisKeys.add(VERSION_PREFIX + id));
+            List<String> values = sredis.opsForValue().multiGet(redisKeys);
+            if (values == null) return found;
+            for (int i = 0; i < keys.size(); i++) {
+                String version = values.get(keys.size() + i);
+                versions.put(keys.get(i), version == null ? "" : version);
+                if (values.get(i) != null) {
+                    found.put(keys.get(i), objectMapper.readValue(values.get(i), ContentDto.class));
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to read {} content caches from Redis", ids.size(), ex);
+        }
+        return found;
+    }
+
+    /**
+     * 조회 시점 버전이 그대로일 때만 기록 (버전을 읽지 못했으면 기록하지 않음)
+     */
+    private void writeRedis(Long id, ContentDto dto, String expectedVersion) {
+        if (expectedVersion == null) return;
+        try {
+            sredis.execute(WRITE_IF_CURRENT_SCRIPT, List.of(KEY_PREFIX + id, VERSION_PREFIX + id),
+                    expectedVersion, objectMapper.writeValueAsString(dto), String.valueOf(redisTtl.getSeconds()));
+        } catch (Exception ex) {
+            log.warn("Failed to write content cache to Redis: {}", id, ex);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.entity.ContentEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 리다이렉트(/r/{id})용 id → 원본 링크 캐시
+ * - L1: 인스턴스 로컬 Caffeine (크기 제한), L2: Redis 해시 버킷 content:links:{id / 1024} (field = id)
+ *   · 버킷 해시는 작은 ziplist/listpack 인코딩으로 저장되어 id당 키 하나보다 메모리가 작음
+ * - 수집 시(아웃박스 후속 처리) 채우고, 이전 콘텐츠는 첫 조회 때 DB에서 읽어 채움
+ * - 숨김/삭제 시 Redis 필드를 빈 값(제거 표시)으로 바꾸고 Pub/Sub으로 모든 인스턴스의 L1 무효화
+ *   · 링크 기록은 제거 표시가 없을 때만 수행 (Lua) → 숨김 이전에 DB를 읽은 느린 loader/아웃박스 후속 처리가
+ *     링크를 되살리지 않음 (버킷 해시에는 TTL이 없으므로 되살아나면 계속 리다이렉트됨)
+ *   · 숨김/삭제는 되돌리는 경로가 없으므로 제거 표시는 영구 유지
+ *   · 트랜잭션 안의 remove는 커밋 후 한 번 더 수행 (커밋 전 값을 읽은 loader 대비)
+ */
+@Component
+@Slf4j
+public class ContentLinkCache {
+    static final String INVALIDATION_CHANNEL = "content:link:removed";
+    private static final String BUCKET_PREFIX = "content:links:";
+    private static final int BUCKET_BITS = 10;
+    /** 숨김/삭제된 id의 필드 값 */
+    private static final String REMOVED = "";
+
+    /**
+     * 제거 표시가 없는 필드만 기록
+     * KEYS[1] = 버킷 해시, ARGV = field1, link1, field2, link2, ...
+     */
+    private static final RedisScript<Long> PUT_IF_NOT_REMOVED_SCRIPT = new DefaultRedisScript<>(
+            "local n = 0 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if redis.call('HGET', KEYS[1], ARGV[i]) ~= '' then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) n = n + 1 " +
+            "  end " +
+            "end " +
+            "return n",
+            Long.class);
+
+    private final StringRedisTemplate sredis;
+    private final Cache<Long, String> local;
+
+    public ContentLinkCache(
+            StringRedisTemplate sredis,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${processor.link-cache.local-max-size:200000}") long localMaxSize,
+            @Value("${processor.link-cache.local-ttl-seconds:3600}") long localTtlSeconds
+    ) {
+        this.sredis = sredis;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterAccess(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "content.link.local");
+
+        listenerContainer.addMessageListener((message, pattern) ->
+                local.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 링크 조회
+     * @param loader DB 조회 함수, 없거나 노출 불가 콘텐츠면 null 반환 (null은 캐시하지 않음)
+     * @return 원본 링크, 없으면 null
+     */
+    public String get(Long id, Function<Long, String> loader) {
+        return local.get(id, key -> {
+            String link = readRedis(key);
+            if (link != null) return REMOVED.equals(link) ? null : link;
+
+            link = loader.apply(key);
+            if (link != null) writeRedis(key, link);
+            return link;
+        });
+    }
+
+    /**
+     * 신규 콘텐츠 링크를 버킷 해시별로 한 번씩 기록 (L1은 조회 시 채움, 이미 숨김/삭제된 id는 건너뜀)
+     * - 신규 id는 연속적이므로 배치 하나가 대부분 한두 개 버킷에 모임
+     */
+    public void putAll(Collection<ContentEntity> contents) {
+        if (contents.isEmpty()) return;
+        Map<String, List<String>> byBucket = new LinkedHashMap<>();
+        for (ContentEntity c : contents) {
+            if (c.getId() == null || c.getLink() == null) continue;
+            List<String> args = byBucket.computeIfAbsent(bucketKey(c.getId()), k -> new ArrayList<>());
+            args.add(String.valueOf(c.getId()));
+            args.add(c.getLink());
+        }
+        try {
+            byBucket.forEach((bucket, args) ->
+                    sredis.execute(PUT_IF_NOT_REMOVED_SCRIPT, List.of(bucket), args.toArray()));
+        } catch (Exception ex) {
+            log.warn("Failed to write {} content links to Redis", contents.size(), ex);
+        }
+    }
+
+    /**
+     * 숨김/삭제된 콘텐츠 링크 제거 (모든 인스턴스)
+     */
+    public void remove(Long id) {
+        // 트랜잭션 안에서 호출되면 커밋 전 값을 읽은 loader가 기록한 L1을 지우도록 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markRemoved(id);
+                }
+            });
+        }
+        markRemoved(id);
+    }
+
+    private void markRemoved(Long id) {
+        local.invalidate(id);
+        try {
+            sredis.opsForHash().put(bucketKey(id), String.valueOf(id), REMOVED);
+            sredis.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(id));
+        } catch (Exception ex) {
+            log.warn("Failed to remove content link from Redis: {}", id, ex);
+        }
+    }
+
+    private String readRedis(Long id) {
+        try {
+            Object link = sredis.opsForHash().get(bucketKey(id), String.valueOf(id));
+            return link == null ? null : link.toString();
+        } catch (Exception ex) {
+            log.warn("Failed to read content link from Redis: {}", id, ex);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long id, String link) {
+        try {
+            sredis.execute(PUT_IF_NOT_REMOVED_SCRIPT, List.of(bucketKey(id)), String.valueOf(id), link);
+        } catch (Exception ex) {
+            log.warn("Failed to write content link to Redis: {}", id, ex);
+        }
+    }
+
+    private static String bucketKey(Long id) {
+        return BUCKET_PREFIX + (id >> BUCKET_BITS);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.entity.ContentEntity;
+import com.example.devnote.processor_service.entity.ContentOutboxEntity;
+import com.example.devnote.processor_service.entity.ContentStatus;
+import com.example.devnote.processor_service.repository.ContentOutboxRepository;
+import com.example.devnote.processor_service.repository.ContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ * - 커밋된 content_outbox 행을 배치로 가져가 content.created 이벤트 발행 (브로커 ack 대기)
+ * - 발행 성공 후 ES 색인 / Redis 카테고리 캐시 반영을 컨슈머 스레드 밖에서 수행하고 행 삭제
+ * - DB 트랜잭션은 짧게 두 번만 사용: (1) 행 잠금 후 claim 기한 기록 (2) 처리 완료 행 삭제
+ *   · 브로커/ES가 느려도 행 잠금이나 커넥션을 잡고 기다리지 않음
+ * - 발행/후속 처리 실패 시 claim을 해제하여 다음 주기에 재시도 (at-least-once, 이벤트 키 = contentId)
+ *   · 프로세스가 죽어 해제하지 못해도 claim-lease-ms가 지나면 다시 처리 대상
+ * - @Scheduled 공용 스레드가 아닌 전용 스레드에서 실행 (다른 주기 작업이 오래 걸려도 발행이 멈추지 않음)
+ */
+@Component
+@Slf4j
+public class ContentOutboxRelay {
+    private final ContentOutboxRepository outboxRepository;
+    private final ContentRepository contentRepository;
+    private final ContentService contentService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long pollIntervalMs;
+    private final Duration claimLease;
+
+    private final ScheduledExecutorService relayExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "content-outbox-relay");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Counter published;
+    private final Counter failures;
+
+    public ContentOutboxRelay(
+            ContentOutboxRepository outboxRepository,
+            ContentRepository contentRepository,
+            ContentService contentService,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${processor.outbox.batch-size:500}") int batchSize,
+            @Value("${processor.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${processor.outbox.poll-interval-ms:200}") long pollIntervalMs,
+            @Value("${processor.outbox.claim-lease-ms:120000}") long claimLeaseMs
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.contentRepository = contentRepository;
+        this.contentService = contentService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.published = meterRegistry.counter("content.outbox.published");
+        this.failures = meterRegistry.counter("content.outbox.failures");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relayExecutor.scheduleWithFixedDelay(this::relay, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        relayExecutor.shutdown();
+        relayExecutor.awaitTermination(sendTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 아웃박스 행이 없어질 때까지 배치 단위로 릴레이
+     */
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= batchSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception ex) {
+            failures.increment();
+            log.error("[OUTBOX] Relay failed, rows will be retried", ex);
+        }
+    }
+
+    private int relayBatch() {
+        // 1) 짧은 트랜잭션: 처리 대상 행을 잠그고 claim 기한 기록 후 바로 커밋
+        List<ContentOutboxEntity> rows = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<ContentOutboxEntity> claimed = outboxRepository.findClaimableForUpdate(now, PageRequest.of(0, batchSize));
+            if (!claimed.isEmpty()) {
+                outboxRepository.updateClaimedUntil(
+                        claimed.stream().map(ContentOutboxEntity::getId).toList(), now.plus(claimLease));
+            }
+            return claimed;
+        });
+        if (rows == null || rows.isEmpty()) return 0;
+
+        List<Long> rowIds = rows.stream().map(ContentOutboxEntity::getId).toList();
+        List<Long> contentIds = rows.stream().map(ContentOutboxEntity::getContentId).distinct().toList();
+
+        try {
+            // 2) 트랜잭션 밖: 이벤트 발행 후 전체 ack 대기
+            publish(contentIds);
+
+            // 3) 트랜잭션 밖: ES 색인 / Redis 캐시 반영 (모두 재실행해도 결과가 같음), 그 사이 숨김 처리된 콘텐츠는 제외
+            List<ContentEntity> contents = contentRepository.findAllById(contentIds).stream()
+                    .filter(c -> c.getStatus() == ContentStatus.ACTIVE)
+                    .toList();
+            contentService.applyCreatedSideEffects(contents);
+        } catch (RuntimeException ex) {
+            release(rowIds);
+            throw ex;
+        }
+
+        // 4) 짧은 트랜잭션: 처리 완료된 행 삭제
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(rowIds));
+        published.increment(rows.size());
+        log.debug("[OUTBOX] Relayed {} content.created events", rows.size());
+        return rows.size();
+    }
+
+    private void publish(List<Long> contentIds) {
+        CompletableFuture<?>[] sends = contentIds.stream()
+                .map(id -> kafkaTemplate.send(ContentOutboxEntity.CONTENT_CREATED, String.valueOf(id), String.valueOf(id)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox events", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to publish " + contentIds.size() + " outbox events", e);
+        }
+    }
+
+    /**
+     * 실패한 행의 claim 해제 (실패해도 claim 기한이 지나면 다시 처리됨)
+     */
+    private void release(List<Long> rowIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.updateClaimedUntil(rowIds, null));
+        } catch (Exception ex) {
+            log.warn("[OUTBOX] Failed to release {} claimed rows, they will be retried after the lease", rowIds.size(), ex);
+        }
+    }
+}
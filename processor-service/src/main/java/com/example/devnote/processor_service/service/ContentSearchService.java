@@ -1,36 +1,31 @@
 package com.example.devnote.processor_service.service;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import com.example.devnote.processor_service.dto.CursorPageResponseDto;
 import com.example.devnote.processor_service.es.EsContent;
-import com.example.devnote.processor_service.es.EsSearchLog;
-import com.example.devnote.processor_service.es.EsSearchLogRepository;
+import com.example.devnote.processor_service.es.ProjectedEsContent;
+import com.example.devnote.processor_service.util.ContentFields;
+import com.example.devnote.processor_service.util.SearchCursor;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.lucene.analysis.TokenStream;
-import org.apache.lucene.analysis.ko.KoreanAnalyzer;
-import org.apache.lucene.analysis.ko.KoreanTokenizer;
-import org.apache.lucene.analysis.ko.POS;
-import org.apache.lucene.analysis.ko.tokenattributes.PartOfSpeechAttribute;
-import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.data.elasticsearch.core.query.Query;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.io.StringReader;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -41,9 +36,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class ContentSearchService {
-    private final EsSearchLogRepository searchLogRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-    private final StringRedisTemplate redisTemplate;
+    private final SearchResultCache searchResultCache;
+    private final SearchKeywordExtractor searchKeywordExtractor;
+    private final SearchTermAggregator searchTermAggregator;
+    /** 커서 검색 point-in-time 유지 시간 (페이지 요청마다 연장) */
+    private static final Duration SEARCH_PIT_KEEP_ALIVE = Duration.ofMinutes(2);
+    private static final Pattern NUMERIC = Pattern.compile("-?\\d+(\\.\\d+)?");
     private static final Pattern SAFE_SEARCH_TERM =
             Pattern.compile("^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ\\s._\\-+#]{1,50}$");
 
@@ -51,7 +50,7 @@ public class ContentSearchService {
     /**
      * 키워드로 콘텐츠를 검색하고, IP기반으로 10분에 한 번씩 검색어 로그 남기기
      */
-    public Page<EsContent> search(String keyword, String source, String category, String sortOption, Pageable pageable, HttpServletRequest request) {
+    public Page<EsContent> search(String keyword, String source, String category, String sortOption, String fields, Pageable pageable, HttpServletRequest request) {
         // 검색어 유효성 검사
         if (!isValidSearchTerm(keyword)) {
             return Page.empty(pageable);
@@ -60,75 +59,204 @@ public class ContentSearchService {
         // 검색어 로깅 시도
         logSearchQuery(keyword, source, request);
 
+        // 응답 필드 선택 (미지정 시 문서 전체)
+        Set<String> includes;
+        try {
+            includes = ContentFields.parse(fields, ContentFields.ALL);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
         Sort sort = buildSort(sortOption);
         Pageable finalPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
 
-        // Bool 쿼리 구조를 must와 filter로 분리
+        // 정규화된 검색 조건별 결과 캐시 (동시 미스는 ES 요청 1회로 묶음)
+        SearchResultCache.Result result = searchResultCache.get(keyword, source, category, sortOption, fields,
+                finalPageable.getPageNumber(), finalPageable.getPageSize(),
+                () -> executeSearch(keyword, source, category, includes, finalPageable));
+
+        return org.springframework.data.support.PageableExecutionUtils.getPage(
+                result.items(), finalPageable, result::totalHits);
+    }
+
+    /**
+     * search_after 커서 기반 검색 (페이지 깊이와 무관하게 첫 페이지와 같은 비용)
+     * - 정렬: relevance = _score, publishedAt, id / newest·oldest = publishedAt, id (id로 순서 고정)
+     * - pit = true 이면 첫 요청에서 point-in-time을 열어 커서에 담고, 이후 페이지는 같은 스냅샷에서 조회
+     * - 검색어 로그는 첫 페이지에서만 남김
+     */
+    public CursorPageResponseDto<EsContent> searchByCursor(String keyword, String source, String category, String sortOption,
+                                                           String fields, String cursor, int size, boolean pit,
+                                                           HttpServletRequest request) {
+        if (!isValidSearchTerm(keyword)) {
+            return new CursorPageResponseDto<>(List.of(), size, null, false);
+        }
+
+        Set<String> includes;
+        try {
+            includes = ContentFields.parse(fields, ContentFields.ALL);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        String sortKey = switch (sortOption.toLowerCase()) {
+            case "newest", "oldest" -> sortOption.toLowerCase();
+            default -> "relevance";
+        };
+        boolean relevance = "relevance".equals(sortKey);
+
+        String pitId = null;
+        List<Object> searchAfter = null;
+        if (cursor != null && !cursor.isBlank()) {
+            SearchCursor decoded;
+            try {
+                decoded = SearchCursor.decode(cursor, relevance);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+            if (!decoded.getSort().equals(sortKey)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match sort order");
+            }
+            pitId = decoded.getPitId();
+            searchAfter = decoded.getSortValues();
+        } else {
+            logSearchQuery(keyword, source, request);
+            if (pit) {
+                pitId = elasticsearchOperations.openPointInTime(IndexCoordinates.of("contents"), SEARCH_PIT_KEEP_ALIVE);
+            }
+        }
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(buildSearchQuery(keyword, source, category))
+                .withSort(buildCursorSort(sortKey))
+                .withPageable(PageRequest.of(0, size + 1))
+                .withSourceFilter(sourceFilter(includes))
+                .withTrackTotalHits(false);
+        if (searchAfter != null) builder.withSearchAfter(searchAfter);
+        if (pitId != null) builder.withPointInTime(new Query.PointInTime(pitId, SEARCH_PIT_KEEP_ALIVE));
+
+        SearchHits<EsContent> searchHits = elasticsearchOperations.search(builder.build(), EsContent.class);
+        // PIT id는 응답마다 바뀔 수 있으므로 다음 요청에는 항상 최신 응답의 id를 사용
+        if (pitId != null && searchHits.getPointInTimeId() != null) {
+            pitId = searchHits.getPointInTimeId();
+        }
+        List<SearchHit<EsContent>> hits = searchHits.getSearchHits();
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<EsContent>> page = hasNext ? hits.subList(0, size) : hits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new SearchCursor(sortKey, pitId, page.get(page.size() - 1).getSortValues()).encode();
+        } else if (pitId != null) {
+            closePointInTime(pitId);
+        }
+        return new CursorPageResponseDto<>(
+                page.stream().map(hit -> project(hit.getContent(), includes)).toList(), size, nextCursor, hasNext);
+    }
+
+    /** search_after용 정렬 (마지막 키는 항상 고유한 id) */
+    private Sort buildCursorSort(String sortKey) {
+        return switch (sortKey) {
+            case "newest" -> Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("id"));
+            case "oldest" -> Sort.by(Sort.Order.asc("publishedAt"), Sort.Order.asc("id"));
+            default -> Sort.by(Sort.Order.desc("_score"), Sort.Order.desc("publishedAt"), Sort.Order.desc("id"));
+        };
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchOperations.closePointInTime(pitId);
+        } catch (Exception e) {
+            log.debug("Failed to close point-in-time, it will expire on its own", e);
+        }
+    }
+
+    /**
+     * Elasticsearch 검색 실행 (검색어 multi_match + source/category/status 필터)
+     */
+    private SearchResultCache.Result executeSearch(String keyword, String source, String category,
+                                                   Set<String> includes, Pageable finalPageable) {
         Query query = NativeQuery.builder()
-                .withQuery(q -> q
-                        .bool(b -> {
-                            // 1. 점수 계산에 영향을 주는 검색어 쿼리는 'must' 절에 삽입
-                            b.must(m -> m
-                                    .multiMatch(mm -> mm
-                                            .query(keyword)
-                                            .fields("title", "description", "channelTitle")
-                                    )
-                            );
+                .withQuery(buildSearchQuery(keyword, source, category))
+                .withPageable(finalPageable)
+                .withSourceFilter(sourceFilter(includes))
+                .build();
 
-                            // 2. 점수 계산 없이 필터링만 하는 조건들은 'filter' 절에 삽입
-                            b.filter(f -> f
+        SearchHits<EsContent> searchHits = elasticsearchOperations.search(query, EsContent.class);
+
+        return new SearchResultCache.Result(
+                searchHits.getSearchHits().stream().map(hit -> project(hit.getContent(), includes)).toList(),
+                searchHits.getTotalHits()
+        );
+    }
+
+    /**
+     * Bool 쿼리 구조를 must와 filter로 분리
+     * - 검색어 multi_match(must) + source/category/status 필터(filter)
+     */
+    private co.elastic.clients.elasticsearch._types.query_dsl.Query buildSearchQuery(String keyword, String source, String category) {
+        return co.elastic.clients.elasticsearch._types.query_dsl.Query.of(q -> q.bool(b -> {
+            // 1. 점수 계산에 영향을 주는 검색어 쿼리는 'must' 절에 삽입
+            b.must(m -> m
+                    .multiMatch(mm -> mm
+                            .query(keyword)
+                            .fields("title", "description", "channelTitle")
+                    )
+            );
+
+            // 2. 점수 계산 없이 필터링만 하는 조건들은 'filter' 절에 삽입
+            b.filter(f -> f
+                    .term(t -> t
+                            .field("source")
+                            .value(source.toUpperCase())
+                    )
+            );
+
+            // 3. category 파라미터가 있을 경우에만 category 필터 조건을 추가
+            if (category != null && !category.isBlank()) {
+                b.filter(f -> f
+                        .term(t -> t
+                                .field("category")
+                                .value(category)
+                        )
+                );
+            }
+
+            // 4. ACTIVE 상태인 콘텐츠만 검색 (HIDDEN 제외)
+            b.filter(f -> f
+                    .bool(fb -> fb
+                            .should(s -> s
                                     .term(t -> t
-                                            .field("source")
-                                            .value(source.toUpperCase())
+                                            .field("status")
+                                            .value("ACTIVE")
                                     )
-                            );
-
-                            // 3. category 파라미터가 있을 경우에만 category 필터 조건을 추가
-                            if (category != null && !category.isBlank()) {
-                                b.filter(f -> f
-                                        .term(t -> t
-                                                .field("category")
-                                                .value(category)
-                                        )
-                                );
-                            }
-
-                            // 4. ACTIVE 상태인 콘텐츠만 검색 (HIDDEN 제외)
-                            b.filter(f -> f
-                                    .bool(fb -> fb
-                                            .should(s -> s
-                                                    .term(t -> t
+                            )
+                            // status 필드가 없는 기존 문서도 포함 (하위 호환)
+                            .should(s -> s
+                                    .bool(nb -> nb
+                                            .mustNot(mn -> mn
+                                                    .exists(ex -> ex
                                                             .field("status")
-                                                            .value("ACTIVE")
-                                                    )
-                                            )
-                                            // status 필드가 없는 기존 문서도 포함 (하위 호환)
-                                            .should(s -> s
-                                                    .bool(nb -> nb
-                                                            .mustNot(mn -> mn
-                                                                    .exists(ex -> ex
-                                                                            .field("status")
-                                                                    )
-                                                            )
                                                     )
                                             )
-                                            .minimumShouldMatch("1")
                                     )
-                            );
+                            )
+                            .minimumShouldMatch("1")
+                    )
+            );
 
-                            return b;
-                        })
-                )
-                .withPageable(finalPageable)
-                .build();
+            return b;
+        }));
+    }
 
-        SearchHits<EsContent> searchHits = elasticsearchOperations.search(query, EsContent.class);
+    private static FetchSourceFilter sourceFilter(Set<String> includes) {
+        return includes == ContentFields.ALL ? null
+                : new FetchSourceFilter(true, includes.toArray(String[]::new), null);
+    }
 
-        return org.springframework.data.support.PageableExecutionUtils.getPage(
-                searchHits.getSearchHits().stream().map(org.springframework.data.elasticsearch.core.SearchHit::getContent).toList(),
-                finalPageable,
-                searchHits::getTotalHits
-        );
+    /** fields 지정 시 선택한 필드만 담은 응답 항목 (null 필드 생략), 미지정 시 문서 그대로 */
+    private static EsContent project(EsContent doc, Set<String> includes) {
+        return includes == ContentFields.ALL ? doc : ProjectedEsContent.of(doc, includes);
     }
 
     // 유효성 검사 로직
@@ -157,101 +285,31 @@ public class ContentSearchService {
     }
 
     /**
-     * 검색어 로깅 (IP 기반 10분 제한 추가)
+     * 검색어 로깅 (IP 기반 10분 제한, 검색어별 횟수는 SearchTermAggregator에서 분 단위로 합산 후 일괄 반영)
      */
     private void logSearchQuery(String query, String source, HttpServletRequest request) {
         String trimmedQuery = query.trim();
 
-        // 1. 유효성 검사 (빈 문자열 및 숫자만 있는 경우 제외)
-        if (trimmedQuery.isEmpty() || isNumeric(trimmedQuery)) {
+        // 1. 유효성 검사 (2자 미만 및 숫자만 있는 경우 제외)
+        if (trimmedQuery.length() < 2 || isNumeric(trimmedQuery)) {
             return;
         }
 
         // 2. IP 추출 및 중복 체크 (10분 제한)
         String ipAddress = Optional.ofNullable(request.getHeader("X-Forwarded-For")).orElse(request.getRemoteAddr());
-        String redisKey = "search_log_limit:ip:" + ipAddress + ":" + trimmedQuery;
-        Boolean isFirstTime = redisTemplate.opsForValue().setIfAbsent(redisKey, "1", Duration.ofMinutes(10));
-
-
-        // 2. 유효성 검사
-        if (trimmedQuery.isEmpty() || trimmedQuery.length() < 2) {
+        if (!searchTermAggregator.firstSearch(ipAddress, trimmedQuery)) {
             return;
         }
 
-        if (Boolean.TRUE.equals(isFirstTime)) {
-            // 3. 한국 시간 생성
-            String kstNow = LocalDateTime.now(ZoneId.of("Asia/Seoul"))
-                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-
-            // 4. 키워드 추출
-            List<String> keywords = extractKeywordsWithNori(trimmedQuery);
-
-            if (!keywords.isEmpty()) {
-                // 명사가 추출된 경우: 각 명사를 저장
-                for (String word : keywords) {
-                    if (word.length() >= 2) {
-                        saveLogToEs(word, source, ipAddress, kstNow);
-                    }
-                }
-            } else {
-                // 명사 추출 실패 시: 2~10자 사이인 경우 원본 저장
-                if (trimmedQuery.length() >= 2 && trimmedQuery.length() <= 10) {
-                    saveLogToEs(trimmedQuery, source, ipAddress, kstNow);
-                }
-            }
-        }
-    }
+        // 3. 키워드 추출
+        List<String> keywords = searchKeywordExtractor.extractNouns(trimmedQuery);
 
-    /**
-     * Nori를 사용한 형태소 분석
-     */
-    private List<String> extractKeywordsWithNori(String text) {
-        List<String> keywords = new ArrayList<>();
-
-        try (KoreanAnalyzer analyzer = new KoreanAnalyzer(
-                null,
-                KoreanTokenizer.DecompoundMode.MIXED,
-                Set.of(),
-                false
-        )) {
-            TokenStream tokenStream = analyzer.tokenStream("query", new StringReader(text));
-            CharTermAttribute termAtt = tokenStream.addAttribute(CharTermAttribute.class);
-            PartOfSpeechAttribute posAtt = tokenStream.addAttribute(PartOfSpeechAttribute.class);
-
-            tokenStream.reset();
-            while (tokenStream.incrementToken()) {
-                String term = termAtt.toString();
-                POS.Tag pos = posAtt.getLeftPOS(); // 품사 정보 (POS.Tag enum 반환)
-
-                // NNG(일반명사), NNP(고유명사), SL(외국어)만 추출
-                if (pos == POS.Tag.NNG || pos == POS.Tag.NNP || pos == POS.Tag.SL) {
-                    keywords.add(term);
-                }
-            }
-            tokenStream.end();
-        } catch (Exception e) {
-            log.error("Nori analysis failed: {}", text, e);
-        }
-        return keywords;
-    }
-
-    /**
-     * Elasticsearch 저장 로직
-     */
-    private void saveLogToEs(String word, String source, String ip, String kstTime) {
-        try {
-            EsSearchLog logRecord = EsSearchLog.builder()
-                    .query(word)
-                    .source(source)
-                    .ip(ip)
-                    .searchTime(kstTime)
-                    .timestamp(Instant.now())
-                    .build();
-
-            searchLogRepository.save(logRecord);
-            log.debug("Search log saved: {}", word);
-        } catch (Exception e) {
-            log.error("Failed to save search log to Elasticsearch: {}", word, e);
+        if (!keywords.isEmpty()) {
+            // 명사가 추출된 경우: 2자 이상 명사를 집계
+            searchTermAggregator.record(keywords.stream().filter(word -> word.length() >= 2).toList(), source);
+        } else if (trimmedQuery.length() <= 10) {
+            // 명사 추출 실패 시: 2~10자 사이인 경우 원본 집계
+            searchTermAggregator.record(List.of(trimmedQuery), source);
         }
     }
 
@@ -259,7 +317,7 @@ public class ContentSearchService {
      * 숫자로만 된 검색어인지 체크
      */
     private boolean isNumeric(String str) {
-        return str.matches("-?\\d+(\\.\\d+)?");
+        return NUMERIC.matcher(str).matches();
     }
 
     /**
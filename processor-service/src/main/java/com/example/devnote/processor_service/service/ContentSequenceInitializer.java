@@ -0,0 +1,40 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.entity.ContentEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * contents_seq 시퀀스 준비 (IDENTITY → SEQUENCE 전환 마이그레이션)
+ * - 시퀀스가 없으면 생성하고, 기존 최대 ID보다 뒤에서 할당이 시작되도록 맞춤
+ * - 기존 행의 ID는 그대로 유지됨
+ * - Kafka 리스너가 시작되기 전(빈 초기화 단계)에 실행되어야 하므로 @PostConstruct 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentSequenceInitializer {
+    private final JdbcTemplate jdbcTemplate;
+    /** 스키마 갱신(ddl-auto) 이후에 실행되도록 의존성만 선언 */
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignSequence() {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM contents", Long.class);
+        int increment = ContentEntity.ID_ALLOCATION_SIZE;
+
+        // pooled 할당 범위 [hi - increment + 1, hi]가 기존 최대 ID를 넘도록 시작점 지정
+        long floor = maxId + increment;
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS contents_seq START WITH " + (floor + 1)
+                + " INCREMENT BY " + increment);
+        // SETVAL은 현재 값보다 클 때만 적용되므로 이미 앞서 있는 시퀀스는 되돌리지 않음
+        jdbcTemplate.queryForList("SELECT SETVAL(contents_seq, " + floor + ")");
+
+        log.info("contents_seq aligned above max id {} (increment {})", maxId, increment);
+    }
+}
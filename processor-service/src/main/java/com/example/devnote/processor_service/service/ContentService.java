@@ -1,36 +1,48 @@
 package com.example.devnote.processor_service.service;
 
-import com.example.devnote.processor_service.dto.CategoryCountDto;
+import com.example.devnote.processor_service.dto.ContentBatchResponseDto;
 import com.example.devnote.processor_service.dto.ContentDto;
 import com.example.devnote.processor_service.dto.ContentMessageDto;
+import com.example.devnote.processor_service.dto.CursorPageResponseDto;
 import com.example.devnote.processor_service.dto.PageResponseDto;
+import com.example.devnote.processor_service.dto.ProjectedContentDto;
+import com.example.devnote.processor_service.dto.SliceResponseDto;
+import com.example.devnote.processor_service.entity.ContentCategoryCountEntity;
 import com.example.devnote.processor_service.entity.ContentEntity;
 import com.example.devnote.processor_service.entity.ContentStatus;
 import com.example.devnote.processor_service.es.EsContent;
-import com.example.devnote.processor_service.es.EsContentRepository;
+import com.example.devnote.processor_service.repository.ContentCategoryCountRepository;
 import com.example.devnote.processor_service.repository.ContentRepository;
+import com.example.devnote.processor_service.util.ContentCursor;
+import com.example.devnote.processor_service.util.ContentFields;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDate;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,100 +54,357 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ContentService {
     private final ContentRepository contentRepository;
-    private final RedisTemplate<String, Object> redis;
     private final StringRedisTemplate sredis;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final EsContentRepository esContentRepository;
+    private final SeenLinkFilter seenLinkFilter;
+    private final EsContentIndexer esContentIndexer;
+    private final ContentCountCache contentCountCache;
+    private final ContentDetailCache contentDetailCache;
+    private final CategoryNewestCache categoryNewestCache;
+    private final ContentLinkCache contentLinkCache;
+    private final ViewRecorder viewRecorder;
+    private final ContentCategoryCountRepository categoryCountRepository;
+
+    /** 존재가 확인된 콘텐츠 id 로컬 캐시 (조회수 카운팅 시 DB 조회 생략) */
+    private final Cache<Long, Boolean> existsCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    private static final byte[] VIEW_DIRTY_KEY_BYTES = ViewCountBuffer.VIEW_DIRTY_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final int VIEW_FLUSH_CHUNK_SIZE = 500;
 
-    private static final String CACHE_PREFIX = "cache:";
-    private static final String VIEW_KEY_FMT = "views:content:%d:count";
-    private static final String DEDUP_KEY_FMT = "views:dedup:%d:%s";
-
-    /** Kafka 메시지 수신 → 저장 + Redis 캐시 */
+    /**
+     * Kafka 메시지 배치 수신 → 일괄 저장 + 아웃박스 기록
+     * - poll 한 번에 받은 레코드를 하나의 단위로 처리
+     * - 이미 본 링크는 Bloom Filter로 걸러내고, "있을 수도 있음" 판정만 DB에서 확인
+     * - 최종 중복은 (source, link) 유니크 키와 INSERT IGNORE로 DB가 판정, 실제 삽입된 행만 후속 처리
+     * - 일괄 저장 실패 시 건별 저장으로 전환하여 불량 레코드 하나가 전체 배치를 실패시키지 않도록 격리
+     */
     @KafkaListener(
             topics = "raw.content",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consume(ContentMessageDto msg) {
-        log.info("Received Kafka msg: {} / {}", msg.getCategory(), msg.getTitle());
+    public void consume(List<ContentMessageDto> msgs) {
+        log.info("Received Kafka batch: {} records", msgs.size());
         try {
-            // 중복 체크
-            boolean exists = contentRepository
-                    .findBySourceAndLink(msg.getSource(), msg.getLink())
-                    .isPresent();
-
-            if (exists) {
-                log.debug("Duplicate skipped: {}", msg.getLink());
-                return;
+            // 배치 내부 중복 제거 (source + link 기준, 최초 수신 메시지 유지)
+            Map<String, ContentEntity> unique = new LinkedHashMap<>();
+            for (ContentMessageDto msg : msgs) {
+                if (msg == null || msg.getLink() == null) continue;
+                unique.putIfAbsent(sourceLinkKey(msg.getSource(), msg.getLink()), toEntity(msg));
             }
+            if (unique.isEmpty()) return;
+
+            // Bloom Filter 판정: 확실히 신규인 링크는 DB 확인 없이 저장 대상으로
+            List<ContentEntity> toSave = new ArrayList<>();
+            Map<String, ContentEntity> maybeSeen = new LinkedHashMap<>();
+            unique.forEach((key, ent) -> {
+                if (seenLinkFilter.mightContain(ent.getSource(), ent.getLink())) {
+                    maybeSeen.put(key, ent);
+                } else {
+                    toSave.add(ent);
+                }
+            });
 
-            // 엔티티 변환 & 저장
-            ContentEntity ent = ContentEntity.builder()
-                    .source(msg.getSource())
-                    .category(msg.getCategory())
-                    .channelId(msg.getChannelId())
-                    .title(msg.getTitle())
-                    .link(msg.getLink())
-                    .thumbnailUrl(msg.getThumbnailUrl())
-                    .description(msg.getDescription())
-                    .publishedAt(msg.getPublishedAt())
-                    .channelTitle(msg.getChannelTitle())
-                    .channelThumbnailUrl(msg.getChannelThumbnailUrl())
-                    .viewCount(msg.getViewCount())
-                    .durationSeconds(msg.getDurationSeconds())
-                    .videoForm(msg.getVideoForm())
-                    .subscriberCount(msg.getSubscriberCount())
-                    .localViewCount(0L)
-                    .favoriteCount(0L)
-                    .commentCount(0L)
-                    .build();
-            ent = contentRepository.save(ent);
-            log.info("Saved ContentEntity id={}", ent.getId());
-
-            // MariaDB 저장 성공 후, Elasticsearch에도 색인
-            esContentRepository.save(toEsContent(ent));
-            log.info("Indexed EsContent id={}", ent.getId());
-
-
-            // 신규 콘텐츠 생성 이벤트 발행
-            kafkaTemplate.send("content.created", String.valueOf(ent.getId()));
-
-            // Redis 캐시 갱신 (최신 100개)
-            String key = CACHE_PREFIX + msg.getCategory();
-            redis.opsForList().leftPush(key, toDto(ent));
-            redis.opsForList().trim(key, 0, 99);
+            // "있을 수도 있음" 판정만 DB에서 중복 확인 (IN 쿼리 1회)
+            if (!maybeSeen.isEmpty()) {
+                Set<String> existing = new HashSet<>(contentRepository.findSourceLinkKeysByLinkIn(
+                        maybeSeen.values().stream().map(ContentEntity::getLink).collect(Collectors.toSet())));
+                long falsePositives = 0;
+                for (Map.Entry<String, ContentEntity> e : maybeSeen.entrySet()) {
+                    if (existing.contains(e.getKey())) {
+                        log.debug("Duplicate skipped: {}", e.getValue().getLink());
+                        continue;
+                    }
+                    toSave.add(e.getValue());
+                    falsePositives++;
+                }
+                seenLinkFilter.recordFalsePositives(falsePositives);
+            }
+            if (toSave.isEmpty()) return;
+
+            // 엔티티 일괄 저장 (동시 수집 등으로 이미 존재하는 콘텐츠는 DB에서 무시)
+            List<ContentEntity> saved = saveBatch(toSave);
+            toSave.forEach(ent -> seenLinkFilter.put(ent.getSource(), ent.getLink()));
+            log.info("Saved {} new ContentEntity (batch of {}, {} duplicates skipped)",
+                    saved.size(), msgs.size(), unique.size() - saved.size());
+            if (saved.isEmpty()) return;
 
+            // content.created 발행, ES 색인, Redis 캐시 갱신은 같은 트랜잭션에 기록된 아웃박스를 통해
+            // 커밋 후 ContentOutboxRelay가 수행
         } catch (Exception ex) {
-            log.error("Error processing Kafka msg: {}", msg, ex);
+            log.error("Error processing Kafka batch of {} records", msgs.size(), ex);
+        }
+    }
+
+    /**
+     * 엔티티 일괄 INSERT IGNORE, 실패 시 건별 저장으로 전환 (실패 레코드만 건너뜀)
+     * @return 실제로 새로 저장된 엔티티 목록
+     */
+    private List<ContentEntity> saveBatch(List<ContentEntity> entities) {
+        try {
+            return contentRepository.insertIgnore(entities);
+        } catch (Exception batchEx) {
+            log.warn("Batch insert failed, retrying {} records one by one", entities.size(), batchEx);
         }
+
+        List<ContentEntity> saved = new ArrayList<>();
+        for (ContentEntity ent : entities) {
+            try {
+                saved.addAll(contentRepository.insertIgnore(List.of(ent)));
+            } catch (Exception ex) {
+                log.error("Error saving content: {}", ent.getLink(), ex);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 신규 콘텐츠 후속 처리 (ContentOutboxRelay에서 이벤트 발행 후 호출)
+     * - Elasticsearch 색인 큐 전달 + 카테고리별 최신순 캐시 / 리다이렉트 링크 캐시 갱신, 재실행해도 결과가 같음
+     */
+    public void applyCreatedSideEffects(List<ContentEntity> created) {
+        if (created.isEmpty()) return;
+        contentCountCache.invalidate();
+        esContentIndexer.indexAll(created.stream().map(this::toEsContent).toList());
+        categoryNewestCache.add(created);
+        contentLinkCache.putAll(created);
+    }
+
+    /**
+     * Kafka 메시지 → Entity 변환
+     */
+    private ContentEntity toEntity(ContentMessageDto msg) {
+        return ContentEntity.builder()
+                .source(msg.getSource())
+                .category(msg.getCategory())
+                .channelId(msg.getChannelId())
+                .title(msg.getTitle())
+                .link(msg.getLink())
+                .thumbnailUrl(msg.getThumbnailUrl())
+                .description(msg.getDescription())
+                .publishedAt(msg.getPublishedAt())
+                .channelTitle(msg.getChannelTitle())
+                .channelThumbnailUrl(msg.getChannelThumbnailUrl())
+                .viewCount(msg.getViewCount())
+                .durationSeconds(msg.getDurationSeconds())
+                .videoForm(msg.getVideoForm())
+                .subscriberCount(msg.getSubscriberCount())
+                .localViewCount(0L)
+                .favoriteCount(0L)
+                .commentCount(0L)
+                .build();
+    }
+
+    /** 중복 체크용 "source:link" 키 */
+    private static String sourceLinkKey(String source, String link) {
+        return source + ":" + link;
     }
 
     /**
      * 페이지네이션 + 필터 + 정렬 적용된 콘텐츠 조회 (모든 정렬을 DB에서 처리)
      */
     public PageResponseDto<ContentDto> getContents(
-            int page, int size, String source, String category, String channelId, String channelTitle, String title, String sortOrder
+            int page, int size, String source, String category, String channelId, String channelTitle, String title, String sortOrder, String fields
     ) {
+        // 목록은 COUNT 없이 Slice로 조회하고, 전체 개수는 필터 조합별 캐시에서 조회
+        SliceResponseDto<ContentDto> slice = getContentsSlice(page, size, source, category, channelId, channelTitle, title, sortOrder, fields);
+        Specification<ContentEntity> spec = buildSpecification(source, category, channelId, channelTitle, title);
+        long total = contentCountCache.get(() -> contentRepository.count(spec), source, category, channelId, channelTitle, title);
+
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / size);
+        return new PageResponseDto<>(slice.getItems(), page, size, total, totalPages);
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 반환하는 콘텐츠 목록 조회 (COUNT 쿼리 생략)
+     * - 카드 프로젝션: 요청한 필드(기본은 description 제외)만 SELECT
+     * @param fields 쉼표 구분 응답 필드 목록 (미지정 시 ContentFields.CARD)
+     */
+    public SliceResponseDto<ContentDto> getContentsSlice(
+            int page, int size, String source, String category, String channelId, String channelTitle, String title, String sortOrder, String fields
+    ) {
+        Set<String> selected = parseFields(fields, Set.of());
+
+        // 카테고리 최신순 페이지는 Redis 최신순 캐시 범위 안이면 DB 없이 응답
+        if (isNewestCategoryPage(category, channelId, channelTitle, title, sortOrder)) {
+            SliceResponseDto<ContentDto> cached = getNewestFromCache(page, size, source, category, selected);
+            if (cached != null) return cached;
+        }
+
         // 모든 정렬 조건을 DB에서 처리하도록 Sort 객체 생성
         Sort sort = buildSort(sortOrder);
-        Pageable pageable = PageRequest.of(page, size, sort);
 
         // Specification으로 동적 필터링 조건 생성
         Specification<ContentEntity> spec = buildSpecification(source, category, channelId, channelTitle, title);
 
-        // DB에서 필터링 및 정렬된 데이터 조회
-        Page<ContentEntity> entityPage = contentRepository.findAll(spec, pageable);
+        // DB에서 필터링 및 정렬된 데이터 조회 (size + 1건 조회로 다음 페이지 판단)
+        List<ContentDto> rows = contentRepository.findProjected(
+                spec, sort, (long) page * size, size + 1, selected);
+        boolean hasNext = rows.size() > size;
+        return new SliceResponseDto<>(hasNext ? rows.subList(0, size) : rows, page, size, hasNext);
+    }
+
+    private boolean isNewestCategoryPage(String category, String channelId, String channelTitle, String title, String sortOrder) {
+        return category != null && !category.isBlank()
+                && (channelId == null || channelId.isBlank())
+                && (channelTitle == null || channelTitle.isBlank())
+                && (title == null || title.isBlank())
+                && "newest".equalsIgnoreCase(sortOrder);
+    }
+
+    /**
+     * 카테고리 최신순 캐시에서 페이지 조회 (id 목록 → 상세 캐시로 DTO 조합)
+     * @return 캐시 범위를 벗어나거나 캐시와 DB가 어긋난 경우 null (DB 조회로 대체)
+     */
+    private SliceResponseDto<ContentDto> getNewestFromCache(int page, int size, String source, String category, Set<String> fields) {
+        try {
+            long start = (long) page * size;
+            List<Long> ids = categoryNewestCache.range(source, category, start, size + 1);
+            if (ids == null) {
+                // 키가 없으면 DB 최신순 상위 N개로 재구성 후 다시 조회
+                Specification<ContentEntity> spec = buildSpecification(source, category, null, null, null);
+                categoryNewestCache.rebuild(source, category, contentRepository.findProjected(
+                        spec, buildSort("newest"), 0, categoryNewestCache.size(), Set.of("id", "publishedAt")));
+                ids = categoryNewestCache.range(source, category, start, size + 1);
+            }
+            if (ids == null || ids.size() < size + 1) return null;
+
+            Map<Long, ContentDto> found = contentDetailCache.getAll(ids, this::loadVisibleDtos);
+            if (found.size() < ids.size()) return null;
+
+            List<ContentDto> items = ids.subList(0, size).stream()
+                    .map(id -> project(found.get(id), fields))
+                    .toList();
+            return new SliceResponseDto<>(items, page, size, true);
+        } catch (Exception ex) {
+            log.warn("Newest cache lookup failed for category={}, falling back to DB", category, ex);
+            return null;
+        }
+    }
+
+    /** 선택한 필드만 복사한 새 DTO (캐시 객체는 공유되므로 직접 수정하지 않음) */
+    private static ContentDto project(ContentDto source, Set<String> fields) {
+        BeanWrapper from = new BeanWrapperImpl(source);
+        BeanWrapper to = new BeanWrapperImpl(new ProjectedContentDto());
+        fields.forEach(f -> to.setPropertyValue(f, from.getPropertyValue(f)));
+        return (ContentDto) to.getWrappedInstance();
+    }
+
+    /**
+     * 커서(keyset) 기반 콘텐츠 목록 조회 (무한 스크롤용)
+     * - OFFSET 없이 "마지막 (정렬 키, id) 이후" 조건으로 조회하여 페이지 깊이와 무관하게 일정한 비용
+     * - 정렬 키가 같은 항목은 id로 순서를 고정, null 정렬 키는 MariaDB 기본 순서(ASC 앞, DESC 뒤)를 따름
+     * - COUNT 쿼리 없이 size + 1건을 조회하여 다음 페이지 존재 여부 판단
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param fields 쉼표 구분 응답 필드 목록 (미지정 시 ContentFields.CARD)
+     */
+    public CursorPageResponseDto<ContentDto> getContentsByCursor(
+            String cursor, int size, String source, String category, String channelId, String channelTitle, String title, String sortOrder, String fields
+    ) {
+        Sort sort = buildSort(sortOrder);
+        Sort.Order order = sort.iterator().next();
+
+        Specification<ContentEntity> spec = buildSpecification(source, category, channelId, channelTitle, title);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(keysetAfter(order, decodeCursor(cursor, sortOrder, order.getProperty())));
+        }
+
+        // 다음 커서 생성을 위해 정렬 키는 항상 조회
+        List<ContentDto> rows = contentRepository.findProjected(
+                spec, sort, 0, size + 1, parseFields(fields, Set.of(order.getProperty())));
+        boolean hasNext = rows.size() > size;
+        List<ContentDto> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ContentDto last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new ContentCursor(sortOrder.toLowerCase(), sortValue(last, order.getProperty()), last.getId()).encode();
+        }
 
-        // DTO로 변환하여 최종 응답 반환
-        List<ContentDto> dtos = entityPage.stream().map(this::toDto).toList();
-        return new PageResponseDto<>(dtos, entityPage.getNumber(), entityPage.getSize(), entityPage.getTotalElements(), entityPage.getTotalPages());
+        return new CursorPageResponseDto<>(pageRows, size, nextCursor, hasNext);
+    }
+
+    /**
+     * fields 파라미터 파싱 (잘못된 필드명은 400)
+     * @param required 응답 필드와 무관하게 항상 조회해야 하는 속성
+     */
+    private Set<String> parseFields(String fields, Set<String> required) {
+        Set<String> selected;
+        try {
+            selected = ContentFields.parse(fields, ContentFields.CARD);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (selected.containsAll(required)) return selected;
+
+        Set<String> withRequired = new LinkedHashSet<>(selected);
+        withRequired.addAll(required);
+        return withRequired;
+    }
+
+    private ContentCursor decodeCursor(String cursor, String sortOrder, String property) {
+        ContentCursor decoded;
+        try {
+            decoded = ContentCursor.decode(cursor, "publishedAt".equals(property) ? Instant.class : Long.class);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (!decoded.getSort().equals(sortOrder.toLowerCase())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match sort: " + sortOrder);
+        }
+        return decoded;
+    }
+
+    /**
+     * (정렬 키, id)가 커서 이후인 행만 남기는 조건
+     * - DESC: key < v OR (key = v AND id < lastId) OR key IS NULL
+     * - ASC : key > v OR (key = v AND id > lastId)
+     * - 커서의 정렬 키가 null이면 null 구간 안에서 id로만 비교
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Specification<ContentEntity> keysetAfter(Sort.Order order, ContentCursor cursor) {
+        return (root, query, cb) -> {
+            Expression key = root.get(order.getProperty());
+            Expression<Long> id = root.get("id");
+            Comparable value = cursor.getValue();
+            Long lastId = cursor.getId();
+
+            if (order.isDescending()) {
+                if (value == null) {
+                    return cb.and(cb.isNull(key), cb.lessThan(id, lastId));
+                }
+                return cb.or(
+                        cb.lessThan(key, value),
+                        cb.and(cb.equal(key, value), cb.lessThan(id, lastId)),
+                        cb.isNull(key));
+            }
+            if (value == null) {
+                return cb.or(cb.and(cb.isNull(key), cb.greaterThan(id, lastId)), cb.isNotNull(key));
+            }
+            return cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+        };
+    }
+
+    /** buildSort의 정렬 속성값 추출 */
+    private static Comparable<?> sortValue(ContentDto e, String property) {
+        return switch (property) {
+            case "publishedAt" -> e.getPublishedAt();
+            case "localViewCount" -> e.getLocalViewCount();
+            case "viewCount" -> e.getViewCount();
+            case "favoriteCount" -> e.getFavoriteCount();
+            case "commentCount" -> e.getCommentCount();
+            default -> throw new IllegalStateException("Unsupported sort property: " + property);
+        };
     }
 
     /**
      * sortOrder 문자열에 따라 Sort 객체를 생성하는 헬퍼 메서드
      */
     private Sort buildSort(String sortOrder) {
-        return switch (sortOrder.toLowerCase()) {
+        Sort sort = switch (sortOrder.toLowerCase()) {
             case "oldest" -> Sort.by("publishedAt").ascending();
             case "views_desc" -> Sort.by("localViewCount").descending();
             case "views_asc" -> Sort.by("localViewCount").ascending();
@@ -145,6 +414,9 @@ public class ContentService {
             case "comments_desc" -> Sort.by("commentCount").descending();
             default -> Sort.by("publishedAt").descending();
         };
+        // 정렬 키가 같은 항목의 순서를 id로 고정 (페이지 간 중복/누락 방지)
+        Sort.Order order = sort.iterator().next();
+        return sort.and(Sort.by(order.getDirection(), "id"));
     }
 
 
@@ -214,16 +486,49 @@ public class ContentService {
     }
 
     public ContentDto getContentById(Long id) {
-        return contentRepository.findById(id)
+        // 로컬 캐시 → Redis → DB 순으로 조회
+        ContentDto dto = contentDetailCache.get(id, key -> contentRepository.findById(key)
                 .filter(entity -> entity.getStatus() != ContentStatus.HIDDEN) // HIDDEN이면 없는 취급
                 .map(this::toDto)
-                .orElseThrow(() -> {
-                    log.warn("Content not found or hidden: {}", id);
-                    return new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "Content not found: " + id
-                    );
-                });
+                .orElse(null));
+        if (dto == null) {
+            log.warn("Content not found or hidden: {}", id);
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Content not found: " + id
+            );
+        }
+        return dto;
+    }
+
+    /**
+     * 여러 콘텐츠 상세 일괄 조회
+     * - 캐시 미스인 id만 findAllById 1회로 조회
+     * - 요청 순서대로 반환하고, 없거나 숨김 처리된 id는 missingIds로 구분
+     */
+    public ContentBatchResponseDto getContentsByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        Map<Long, ContentDto> found = contentDetailCache.getAll(distinctIds, this::loadVisibleDtos);
+
+        List<ContentDto> items = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ContentDto dto = found.get(id);
+            if (dto != null) {
+                items.add(dto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ContentBatchResponseDto(items, missingIds);
+    }
+
+    /** 캐시 미스 id를 DB에서 한 번에 조회 (HIDDEN 제외) */
+    private Map<Long, ContentDto> loadVisibleDtos(Set<Long> ids) {
+        return contentRepository.findAllById(ids).stream()
+                .filter(entity -> entity.getStatus() != ContentStatus.HIDDEN)
+                .collect(Collectors.toMap(ContentEntity::getId, this::toDto));
     }
 
     /**
@@ -243,9 +548,20 @@ public class ContentService {
     /**
      * 콘텐츠 삭제 + ES 문서 삭제
      */
+    @Transactional
     public void deleteById(Long id) {
+        contentRepository.findById(id).ifPresent(entity -> {
+            categoryNewestCache.remove(id, entity.getSource(), entity.getCategory());
+            if (entity.getStatus() == ContentStatus.ACTIVE) {
+                contentRepository.applyCategoryCountDeltas(Map.of(ContentCategoryCountEntity.Key.of(entity), -1L));
+            }
+        });
         contentRepository.deleteById(id);
-        esContentRepository.deleteById(id);
+        existsCache.invalidate(id);
+        contentLinkCache.remove(id);
+        contentDetailCache.evict(id);
+        contentCountCache.invalidate();
+        esContentIndexer.delete(id);
         log.info("Content deleted from DB and ES: {}", id);
     }
 
@@ -255,24 +571,25 @@ public class ContentService {
      */
     @Transactional
     public boolean hideContent(Long id) {
-        return contentRepository.findById(id)
-                .map(entity -> {
-                    // 이미 HIDDEN이면 스킵
-                    if (entity.getStatus() == ContentStatus.HIDDEN) {
-                        log.debug("Content already hidden: {}", id);
-                        return false;
-                    }
-                    
-                    entity.setStatus(ContentStatus.HIDDEN);
-                    contentRepository.save(entity);
-                    
-                    // ES에서도 삭제
-                    esContentRepository.deleteById(id);
-                    
-                    log.info("Content hidden due to deleted/private video: {}", id);
-                    return true;
-                })
-                .orElse(false);
+        // ACTIVE인 경우에만 status 컬럼만 변경 (이미 HIDDEN이거나 없으면 0)
+        if (contentRepository.updateStatus(id, ContentStatus.ACTIVE, ContentStatus.HIDDEN) == 0) {
+            log.debug("Content already hidden or not found: {}", id);
+            return false;
+        }
+
+        // 행 잠금을 잡은 상태에서 읽으므로 source/category는 커밋 시점까지 변하지 않음
+        ContentEntity entity = contentRepository.findById(id).orElseThrow();
+        contentRepository.applyCategoryCountDeltas(Map.of(ContentCategoryCountEntity.Key.of(entity), -1L));
+
+        // ES에서도 삭제
+        esContentIndexer.delete(id);
+        contentCountCache.invalidate();
+        contentDetailCache.evict(id);
+        categoryNewestCache.remove(id, entity.getSource(), entity.getCategory());
+        contentLinkCache.remove(id);
+
+        log.info("Content hidden due to deleted/private video: {}", id);
+        return true;
     }
 
     /**
@@ -282,109 +599,162 @@ public class ContentService {
     @Transactional(readOnly = true)
     public int syncHiddenContentToEs() {
         List<ContentEntity> hiddenContents = contentRepository.findByStatus(ContentStatus.HIDDEN);
-        int count = 0;
-        
-        for (ContentEntity entity : hiddenContents) {
-            try {
-                esContentRepository.deleteById(entity.getId());
-                count++;
-                log.debug("Deleted hidden content from ES: {}", entity.getId());
-            } catch (Exception e) {
-                log.warn("Failed to delete hidden content from ES: {}", entity.getId(), e);
-            }
-        }
-        
-        log.info("Synced {} hidden contents to ES (deleted)", count);
-        return count;
+        hiddenContents.forEach(entity -> esContentIndexer.delete(entity.getId()));
+
+        log.info("Queued {} hidden contents for ES deletion", hiddenContents.size());
+        return hiddenContents.size();
     }
 
     /**
      * 조회수 카운팅 (뉴스/유튜브 공용)
      */
     public void countView(Long id, @Nullable HttpServletRequest req) {
-        if (!contentRepository.existsById(id)) {
+        if (!contentExists(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Content not found: " + id);
         }
 
-        // IP+UA 기반 중복 방지 (10분간)
-        if (req != null) {
-            String ip = Optional.ofNullable(req.getHeader("X-Forwarded-For"))
-                    .map(x -> x.split(",")[0].trim())
-                    .orElseGet(() -> req.getRemoteAddr());
-            String ua = Optional.ofNullable(req.getHeader("User-Agent")).orElse("-");
-            String dedupKey = DEDUP_KEY_FMT.formatted(id, Integer.toHexString(Objects.hash(ip, ua)));
-            Boolean first = sredis.opsForValue().setIfAbsent(dedupKey, "1", Duration.ofMinutes(10));
+        // IP+UA 기반 중복 방지 (10분간) 후 로컬 버퍼에 누적
+        viewRecorder.record(id, req);
+    }
 
-            if (Boolean.FALSE.equals(first)) return;
-        }
+    /**
+     * 리다이렉트용 원본 링크 조회 (링크 캐시 → DB), 조회수는 비동기로 기록
+     * @return 원본 링크, 없거나 HIDDEN이면 null
+     */
+    public String resolveRedirect(Long id, @Nullable HttpServletRequest req) {
+        String link = contentLinkCache.get(id, this::loadVisibleLink);
+        if (link != null) viewRecorder.recordAsync(id, req);
+        return link;
+    }
 
-        // 합계 카운터 증가
-        String key = VIEW_KEY_FMT.formatted(id);
-        sredis.opsForValue().increment(key);
+    private String loadVisibleLink(Long id) {
+        return contentRepository.findById(id)
+                .filter(entity -> entity.getStatus() != ContentStatus.HIDDEN)
+                .map(ContentEntity::getLink)
+                .orElse(null);
+    }
+
+    /**
+     * 콘텐츠 존재 여부 (존재 확인된 id는 로컬 캐시에서 응답)
+     */
+    private boolean contentExists(Long id) {
+        if (existsCache.getIfPresent(id) != null) return true;
+        boolean exists = contentRepository.existsById(id);
+        if (exists) existsCache.put(id, Boolean.TRUE);
+        return exists;
     }
 
     /**
      * 조회수 1분마다 Redis -> DB 반영
+     * - KEYS 대신 dirty 집합에서 SPOP으로 반영 대상 id를 청크 단위로 꺼냄 (여러 노드가 실행해도 id는 한 노드만 처리)
+     * - 카운터는 GETDEL로 원자적으로 읽고 삭제하므로 읽기와 삭제 사이의 증가분이 유실되지 않음
+     * - 청크마다 DB UPDATE 1회 + ES bulk 부분 업데이트 1회
      */
     @Scheduled(fixedDelayString = "60000")
-    @Transactional
     public void flushViewCounts() {
-        // 운영 모드에서는 변경 예정
-        Set<String> keys = sredis.keys("views:content:*:count");
-        if (keys == null || keys.isEmpty()) return;
+        Long dirty = sredis.opsForSet().size(ViewCountBuffer.VIEW_DIRTY_KEY);
+        if (dirty == null || dirty == 0) return;
+
+        // 실행 중 새로 들어오는 id는 다음 주기에 처리 (무한 반복 방지)
+        long maxChunks = (dirty + VIEW_FLUSH_CHUNK_SIZE - 1) / VIEW_FLUSH_CHUNK_SIZE;
+        for (long i = 0; i < maxChunks; i++) {
+            List<String> ids = sredis.opsForSet().pop(ViewCountBuffer.VIEW_DIRTY_KEY, VIEW_FLUSH_CHUNK_SIZE);
+            if (ids == null || ids.isEmpty()) return;
+            flushViewCountChunk(ids);
+        }
+    }
+
+    private void flushViewCountChunk(List<String> ids) {
+        // 카운터 원자적 drain (GETDEL 파이프라인)
+        List<Object> values = sredis.executePipelined((RedisCallback<Object>) conn -> {
+            for (String id : ids) {
+                conn.stringCommands().getDel(ViewCountBuffer.VIEW_KEY_FMT.formatted(id).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
 
-        for (String k : keys) {
-            String val = sredis.opsForValue().get(k);
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object val = values.get(i);
             if (val == null) continue;
+            long delta = Long.parseLong(val.toString());
+            if (delta != 0) deltas.put(Long.parseLong(ids.get(i)), delta);
+        }
+        if (deltas.isEmpty()) return;
 
-            // 삭제
-            sredis.delete(k);
+        // DB 반영 (UPDATE ... CASE 1회), 실패 시 꺼낸 증가분을 Redis에 되돌림
+        try {
+            contentRepository.addLocalViewCounts(deltas);
+        } catch (Exception ex) {
+            log.error("Failed to flush {} view counts to DB, restoring to Redis", deltas.size(), ex);
+            restoreViewCounts(deltas);
+            return;
+        }
+        contentDetailCache.evict(deltas.keySet());
 
-            long delta = Long.parseLong(val);
-            Long id = Long.parseLong(k.split(":")[2]);
+        // ES 부분 업데이트 (색인 큐에서 bulk로 반영)
+        try {
+            contentRepository.findCountersByIdIn(deltas.keySet()).forEach(esContentIndexer::update);
+        } catch (Exception ex) {
+            log.error("Failed to update EsContent view counts for {} contents", deltas.size(), ex);
+        }
 
-            contentRepository.findById(id).ifPresent(e -> {
-                long cur = e.getLocalViewCount() == null ? 0 : e.getLocalViewCount();
-                e.setLocalViewCount(cur + delta);
-                contentRepository.save(e);
-                esContentRepository.save(toEsContent(e));
+        log.debug("Flushed view counts to DB and ES for {} contents", deltas.size());
+    }
 
-                log.debug("Flushed view count to DB and ES for id={}", id);
+    private void restoreViewCounts(Map<Long, Long> deltas) {
+        sredis.executePipelined((RedisCallback<Object>) conn -> {
+            deltas.forEach((id, delta) -> {
+                conn.stringCommands().incrBy(ViewCountBuffer.VIEW_KEY_FMT.formatted(id).getBytes(StandardCharsets.UTF_8), delta);
+                conn.setCommands().sAdd(VIEW_DIRTY_KEY_BYTES, String.valueOf(id).getBytes(StandardCharsets.UTF_8));
             });
-        }
+            return null;
+        });
     }
 
     /**
-     * 특정 날짜에 생성된 콘텐츠 수를 반환 (내부 통계용).
+     * 기동 시 dirty 집합 도입 이전에 쌓인 카운터 키를 SCAN으로 찾아 dirty 집합에 등록
      */
-    public long countByDay(LocalDate date) {
-        return contentRepository.countByCreatedAt(date);
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerLegacyViewCounters() {
+        ScanOptions options = ScanOptions.scanOptions().match("views:content:*:count").count(1000).build();
+        List<String> ids = new ArrayList<>();
+        try (Cursor<String> cursor = sredis.scan(options)) {
+            cursor.forEachRemaining(k -> ids.add(k.split(":")[2]));
+        } catch (Exception ex) {
+            log.warn("Failed to scan legacy view counters", ex);
+            return;
+        }
+        if (!ids.isEmpty()) {
+            sredis.opsForSet().add(ViewCountBuffer.VIEW_DIRTY_KEY, ids.toArray(new String[0]));
+            log.info("Registered {} view counters to dirty set", ids.size());
+        }
     }
 
     /**
      * 카테고리별 콘텐츠 개수 조회 (source별 필터링 기능 추가)
      */
     public Map<String, Long> getCategoryCounts(String source) {
-        List<CategoryCountDto> counts;
-        long totalCount;
-
-        // source 파라미터 유무에 따라 분기
-        if (source != null && !source.isBlank()) {
-            // source가 있을 경우: 해당 source로 필터링
-            counts = contentRepository.countByCategoryAndSource(source.toUpperCase());
-            totalCount = contentRepository.countBySource(source.toUpperCase());
-        } else {
-            // source가 없을 경우: 전체 집계
-            counts = contentRepository.countByCategory();
-            totalCount = contentRepository.count();
+        // 증분 유지되는 요약 테이블에서 조회 (행 수 = source 수 x 카테고리 수)
+        List<ContentCategoryCountEntity> rows = (source != null && !source.isBlank())
+                ? categoryCountRepository.findBySource(source.toUpperCase())
+                : categoryCountRepository.findAll();
+
+        // source가 없으면 카테고리별로 합산
+        long totalCount = 0;
+        Map<String, Long> byCategory = new TreeMap<>();
+        for (ContentCategoryCountEntity row : rows) {
+            totalCount += row.getContentCount();
+            if (!row.getCategory().isEmpty()) {
+                byCategory.merge(row.getCategory(), row.getContentCount(), Long::sum);
+            }
         }
+        byCategory.values().removeIf(count -> count <= 0);
 
         // 결과를 Map으로 변환
         Map<String, Long> categoryCounts = new LinkedHashMap<>();
         categoryCounts.put("전체", totalCount);
-        for (CategoryCountDto dto : counts) {
-            categoryCounts.put(dto.getCategory(), dto.getCount());
-        }
+        categoryCounts.putAll(byCategory);
 
         return categoryCounts;
     }
@@ -1,68 +1,127 @@
 package com.example.devnote.processor_service.service;
 
 import com.example.devnote.processor_service.dto.ContentStatsUpdateDto;
-import com.example.devnote.processor_service.entity.ContentEntity;
-import com.example.devnote.processor_service.es.EsContent;
-import com.example.devnote.processor_service.es.EsContentRepository;
 import com.example.devnote.processor_service.repository.ContentRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 찜/댓글 수 변경 이벤트를 contentId별로 합산하여 주기적으로 반영 (write-behind)
+ * - 시간 창(flush-interval) 또는 크기 창(max-pending) 단위로 id당 원자적 UPDATE 1회 + ES 부분 업데이트 1회
+ * - 인기 콘텐츠에 이벤트가 몰려도 DB/ES 쓰기는 창마다 id당 한 번으로 줄어듦
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ContentStatsListener {
 
     private final ContentRepository contentRepository;
-    private final EsContentRepository esContentRepository;
+    private final EsContentIndexer esContentIndexer;
+    private final ContentDetailCache contentDetailCache;
+    private final int maxPending;
+
+    /** contentId → 아직 반영되지 않은 증감 합계 */
+    private final ConcurrentHashMap<Long, ContentStatsUpdateDto> pending = new ConcurrentHashMap<>();
+
+    public ContentStatsListener(
+            ContentRepository contentRepository,
+            EsContentIndexer esContentIndexer,
+            ContentDetailCache contentDetailCache,
+            @Value("${processor.stats.max-pending:1000}") int maxPending
+    ) {
+        this.contentRepository = contentRepository;
+        this.esContentIndexer = esContentIndexer;
+        this.contentDetailCache = contentDetailCache;
+        this.maxPending = maxPending;
+    }
 
     /**
-     * 'content-stats-update' 토픽을 구독하여 찜/댓글 수를 DB에 반영
+     * 'content-stats-update' 토픽을 구독하여 찜/댓글 증감을 누적
      */
     @KafkaListener(
             topics = "content-stats-update",
             containerFactory = "statsUpdateContainerFactory"
     )
-    @Transactional
     public void listen(ContentStatsUpdateDto message) {
-        log.info("Received stats update message: {}", message);
-        contentRepository.findById(message.getContentId()).ifPresent(content -> {
-            // DB 업데이트
-            content.setFavoriteCount(content.getFavoriteCount() + message.getFavoriteDelta());
-            content.setCommentCount(content.getCommentCount() + message.getCommentDelta());
-            contentRepository.save(content);
-
-            // Elasticsearch 업데이트(재색인)
-            esContentRepository.save(toEsContent(content));
-            log.info("Updated EsContent stats for id={}", content.getId());
-        });
+        log.debug("Received stats update message: {}", message);
+        if (message.getContentId() == null) return;
+
+        pending.merge(message.getContentId(), copyOf(message), ContentStatsListener::sum);
+
+        // 크기 창: 대기 중인 id가 많으면 리스너 스레드에서 즉시 반영
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * 시간 창: 누적된 증감을 주기적으로 DB와 ES에 반영
+     */
+    @Scheduled(fixedDelayString = "${processor.stats.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        // id별로 원자적으로 꺼내어, 꺼낸 이후 도착한 증감은 다음 창으로 넘어가도록 함
+        List<ContentStatsUpdateDto> batch = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            ContentStatsUpdateDto delta = pending.remove(id);
+            if (delta != null && (delta.getFavoriteDelta() != 0 || delta.getCommentDelta() != 0)) {
+                batch.add(delta);
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        // DB 업데이트 (id당 UPDATE 1회, JDBC 배치)
+        try {
+            contentRepository.applyStatsDeltas(batch);
+        } catch (Exception ex) {
+            log.error("Failed to apply {} stats deltas, will retry next window", batch.size(), ex);
+            batch.forEach(d -> pending.merge(d.getContentId(), d, ContentStatsListener::sum));
+            return;
+        }
+        contentDetailCache.evict(batch.stream().map(ContentStatsUpdateDto::getContentId).toList());
+
+        // Elasticsearch 부분 업데이트 (반영된 최종 카운터 값을 색인 큐에 전달)
+        try {
+            Map<Long, Map<String, Object>> counters = contentRepository.findCountersByIdIn(
+                    batch.stream().map(ContentStatsUpdateDto::getContentId).toList());
+            counters.forEach(esContentIndexer::update);
+        } catch (Exception ex) {
+            log.error("Failed to update EsContent stats for {} contents", batch.size(), ex);
+        }
+
+        log.info("Flushed stats deltas for {} contents", batch.size());
+    }
+
+    private static ContentStatsUpdateDto copyOf(ContentStatsUpdateDto d) {
+        return new ContentStatsUpdateDto(d.getContentId(), d.getFavoriteDelta(), d.getCommentDelta());
     }
 
-    /** ContentEntity를 EsContent로 변환하는 메서드 */
-    private EsContent toEsContent(ContentEntity e) {
-        return EsContent.builder()
-                .id(e.getId())
-                .title(e.getTitle())
-                .description(e.getDescription())
-                .channelTitle(e.getChannelTitle())
-                .category(e.getCategory())
-                .source(e.getSource())
-                .channelId(e.getChannelId())
-                .link(e.getLink())
-                .channelThumbnailUrl(e.getChannelThumbnailUrl())
-                .videoForm(e.getVideoForm())
-                .thumbnailUrl(e.getThumbnailUrl())
-                .publishedAt(e.getPublishedAt())
-                .createdAt(e.getCreatedAt())
-                .viewCount(e.getViewCount())
-                .localViewCount(e.getLocalViewCount())
-                .durationSeconds(e.getDurationSeconds())
-                .subscriberCount(e.getSubscriberCount())
-                .favoriteCount(e.getFavoriteCount())
-                .commentCount(e.getCommentCount())
-                .build();
+    private static ContentStatsUpdateDto sum(ContentStatsUpdateDto a, ContentStatsUpdateDto b) {
+        return new ContentStatsUpdateDto(
+                a.getContentId(),
+                a.getFavoriteDelta() + b.getFavoriteDelta(),
+                a.getCommentDelta() + b.getCommentDelta()
+        );
     }
 }
@@ -0,0 +1,195 @@
+package com.example.devnote.processor_service.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * contents (source, link) 유니크 키 준비
+ * - ddl-auto는 기존 중복 행이 있으면 유니크 키 생성에 실패해도 경고만 남기고 기동을 계속함
+ *   → INSERT IGNORE가 중복을 막지 못하므로, 키가 없으면 여기서 직접 생성하고 그래도 없으면 기동 실패
+ * - 중복 행이 있으면 기본적으로 기동 실패 (운영자가 정리하거나 마이그레이션 플래그를 켜고 한 번 기동)
+ * - processor.migration.merge-duplicate-contents=true 일 때만 중복 병합
+ *   · (source, link)별 가장 작은 id를 남기고, 나머지 행의 조회/찜/댓글 수를 남길 행에 더한 뒤 삭제
+ *   · 삭제되는 id마다 content.merged(값 "삭제id:남길id") 발행 → user-service가 찜/시청 기록/댓글을 남길 id로 옮김
+ *   · 발행 ack를 받은 뒤 같은 트랜잭션에서 병합/삭제를 커밋 (커밋 실패 시 남길 id로 옮겨진 참조만 남아 무해)
+ * - 여러 인스턴스가 동시에 기동해도 GET_LOCK으로 한 인스턴스만 병합/키 생성 (나머지는 락 획득 후 키를 확인하고 통과)
+ * - Kafka 리스너가 시작되기 전(빈 초기화 단계)에 실행되어야 하므로 @PostConstruct 사용
+ */
+@Component
+@Slf4j
+public class ContentUniqueKeyInitializer {
+    private static final String UNIQUE_KEY = "uk_contents_source_link";
+    private static final String LOCK_NAME = "devnote.contents.uk_source_link";
+    private static final String CONTENT_MERGED = "content.merged";
+
+    private static final int CHUNK_SIZE = 500;
+
+    /** 남길 행(MIN(id))과 같은 (source, link)의 나머지 행 */
+    private static final String DUPLICATES =
+            "SELECT c.id AS dup_id, d.keep_id FROM contents c JOIN (" +
+                    "SELECT source, link, MIN(id) AS keep_id FROM contents " +
+                    "GROUP BY source, link HAVING COUNT(*) > 1" +
+                    ") d ON c.source = d.source AND c.link = d.link AND c.id > d.keep_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EsContentIndexer esContentIndexer;
+    private final ContentDetailCache contentDetailCache;
+    private final boolean mergeDuplicates;
+    private final int lockTimeoutSeconds;
+    private final long sendTimeoutMs;
+
+    public ContentUniqueKeyInitializer(
+            JdbcTemplate jdbcTemplate,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            EsContentIndexer esContentIndexer,
+            ContentDetailCache contentDetailCache,
+            // 스키마 갱신(ddl-auto) 이후에 실행되도록 의존성만 선언
+            EntityManagerFactory entityManagerFactory,
+            @Value("${processor.migration.merge-duplicate-contents:false}") boolean mergeDuplicates,
+            @Value("${processor.migration.lock-timeout-seconds:300}") int lockTimeoutSeconds,
+            @Value("${processor.outbox.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.esContentIndexer = esContentIndexer;
+        this.contentDetailCache = contentDetailCache;
+        this.mergeDuplicates = mergeDuplicates;
+        this.lockTimeoutSeconds = lockTimeoutSeconds;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @PostConstruct
+    public void ensureUniqueKey() {
+        if (hasUniqueKey(jdbcTemplate)) return;
+
+        // GET_LOCK은 세션 단위이므로 락 획득부터 해제까지 같은 커넥션 사용
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+            Integer locked = session.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, lockTimeoutSeconds);
+            if (locked == null || locked != 1) {
+                throw new IllegalStateException("Timed out waiting for lock '" + LOCK_NAME + "' to create " + UNIQUE_KEY);
+            }
+            try {
+                ensureUniqueKeyLocked(con, session);
+            } finally {
+                session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void ensureUniqueKeyLocked(Connection con, JdbcTemplate session) throws SQLException {
+        // 락을 기다리는 동안 다른 인스턴스가 이미 키를 만들었을 수 있음
+        if (hasUniqueKey(session)) return;
+
+        Map<Long, Long> duplicates = new LinkedHashMap<>();
+        session.query(DUPLICATES, rs -> {
+            duplicates.put(rs.getLong("dup_id"), rs.getLong("keep_id"));
+        });
+
+        if (!duplicates.isEmpty()) {
+            if (!mergeDuplicates) {
+                throw new IllegalStateException(String.format(
+                        "%s is missing and contents has %d duplicate (source, link) rows. " +
+                                "Clean them up manually, or start one instance with " +
+                                "processor.migration.merge-duplicate-contents=true to merge counters into the lowest id, " +
+                                "remap user references via %s and delete the duplicates.",
+                        UNIQUE_KEY, duplicates.size(), CONTENT_MERGED));
+            }
+            merge(con, session, duplicates);
+        }
+
+        try {
+            session.execute("ALTER TABLE contents ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (source, link)");
+        } catch (DataAccessException ex) {
+            if (!hasUniqueKey(session)) throw ex;
+        }
+        if (!hasUniqueKey(session)) {
+            throw new IllegalStateException(UNIQUE_KEY + " could not be created on contents");
+        }
+        log.info("Created {} on contents", UNIQUE_KEY);
+    }
+
+    /**
+     * 중복 행의 카운터를 남길 행에 더하고 참조 이전 이벤트 발행 후 삭제 (한 트랜잭션)
+     */
+    private void merge(Connection con, JdbcTemplate session, Map<Long, Long> duplicates) throws SQLException {
+        log.warn("Merging {} duplicate contents rows into their lowest id", duplicates.size());
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+        try {
+            session.update(
+                    "UPDATE contents k JOIN (" +
+                            "SELECT d.keep_id, SUM(c.local_view_count) AS lv, SUM(c.favorite_count) AS fc, " +
+                            "SUM(c.comment_count) AS cc FROM contents c JOIN (" + DUPLICATES + ") d ON c.id = d.dup_id " +
+                            "GROUP BY d.keep_id" +
+                            ") s ON k.id = s.keep_id " +
+                            "SET k.local_view_count = k.local_view_count + s.lv, " +
+                            "k.favorite_count = k.favorite_count + s.fc, " +
+                            "k.comment_count = k.comment_count + s.cc");
+
+            publishMerged(duplicates);
+
+            List<Long> duplicateIds = List.copyOf(duplicates.keySet());
+            for (int i = 0; i < duplicateIds.size(); i += CHUNK_SIZE) {
+                List<Long> chunk = duplicateIds.subList(i, Math.min(i + CHUNK_SIZE, duplicateIds.size()));
+                session.update(
+                        "DELETE FROM contents WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                        chunk.toArray());
+            }
+            con.commit();
+        } catch (RuntimeException | SQLException ex) {
+            con.rollback();
+            throw ex;
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+
+        duplicates.keySet().forEach(esContentIndexer::delete);
+        // 남길 행의 카운터가 바뀌었으므로 상세 캐시 무효화 (ES 카운터는 정기 동기화에서 반영)
+        contentDetailCache.evict(duplicates.values().stream().distinct().toList());
+        // 카테고리별 콘텐츠 수 요약은 CategoryCountReconciler가 기동 직후 다시 집계
+        log.info("Merged and removed {} duplicate contents rows", duplicates.size());
+    }
+
+    private void publishMerged(Map<Long, Long> duplicates) {
+        CompletableFuture<?>[] sends = duplicates.entrySet().stream()
+                .map(e -> kafkaTemplate.send(CONTENT_MERGED, String.valueOf(e.getKey()), e.getKey() + ":" + e.getValue()))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing " + CONTENT_MERGED + " events", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to publish " + duplicates.size() + " " + CONTENT_MERGED + " events", e);
+        }
+    }
+
+    private static boolean hasUniqueKey(JdbcTemplate template) {
+        Integer count = template.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'contents' " +
+                        "AND index_name = ? AND non_unique = 0",
+                Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,482 @@
+package com.example.devnote.processor_service.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.example.devnote.processor_service.es.EsContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * EsContent 비동기 write-behind 색인 큐
+ * - 색인(index), 부분 업데이트(update), 삭제(delete) 요청을 id별로 병합하여 보관
+ * - 크기(bulk-size) 또는 시간(flush-interval) 단위로 ES bulk API로 반영
+ * - 대기 id가 capacity에 도달하면 호출 스레드를 대기시켜 ES 지연을 상류로 전파 (backpressure)
+ *   · 대기 시간은 호출 1회(문서 묶음 전체) 기준 offer-timeout-ms 이내, 초과분은 용량을 넘겨 수용
+ *   · 스케줄러 스레드에서 호출하는 offerAll/update는 대기하지 않음
+ * - 삭제는 _delete_by_query가 아닌 bulk delete(id 지정)로 보냄 (refresh 전 색인된 문서도 삭제, 건별 결과 확인)
+ * - 건별 실패는 재시도 큐로 되돌리고, max-retries 초과 시 폐기 (문서 없음 등 4xx 실패는 재시도하지 않음)
+ * - 반영 후 변경된 source의 검색 결과 캐시 무효화
+ */
+@Component
+@Slf4j
+public class EsContentIndexer {
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final SearchResultCache searchResultCache;
+    private final int bulkSize;
+    private final int capacity;
+    private final long offerTimeoutMs;
+    private final int maxRetries;
+
+    /** id → 아직 반영되지 않은 병합된 작업 (삽입 순서 유지) */
+    private final LinkedHashMap<Long, PendingOp> pending = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+
+    /** bulk 전송은 한 번에 하나만 수행 */
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "es-content-indexer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Timer bulkLatency;
+    private final Counter failures;
+    private final Counter retries;
+    private final Counter dropped;
+    private final Counter rejected;
+    private final Counter overflows;
+
+    public EsContentIndexer(
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchClient elasticsearchClient,
+            SearchResultCache searchResultCache,
+            MeterRegistry meterRegistry,
+            @Value("${processor.es.indexer.bulk-size:500}") int bulkSize,
+            @Value("${processor.es.indexer.capacity:10000}") int capacity,
+            @Value("${processor.es.indexer.offer-timeout-ms:30000}") long offerTimeoutMs,
+            @Value("${processor.es.indexer.max-retries:5}") int maxRetries
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.searchResultCache = searchResultCache;
+        this.bulkSize = bulkSize;
+        this.capacity = capacity;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxRetries = maxRetries;
+
+        Gauge.builder("es.indexer.queue.depth", this, EsContentIndexer::queueDepth).register(meterRegistry);
+        this.bulkLatency = Timer.builder("es.indexer.bulk.latency").register(meterRegistry);
+        this.failures = meterRegistry.counter("es.indexer.failures");
+        this.retries = meterRegistry.counter("es.indexer.retries");
+        this.dropped = meterRegistry.counter("es.indexer.dropped");
+        this.rejected = meterRegistry.counter("es.indexer.rejected");
+        this.overflows = meterRegistry.counter("es.indexer.overflows");
+    }
+
+    /** 문서 전체 색인 */
+    public void index(EsContent doc) {
+        enqueueAll(Map.of(doc.getId(), PendingOp.index(doc)), offerTimeoutMs);
+    }
+
+    /**
+     * 여러 문서 전체 색인
+     * - 큐가 가득 차면 묶음 전체에 대해 최대 offer-timeout-ms까지만 대기
+     */
+    public void indexAll(Collection<EsContent> docs) {
+        enqueueAll(indexOps(docs), offerTimeoutMs);
+    }
+
+    /**
+     * 여러 문서 전체 색인 (대기 없음, 스케줄러 스레드용)
+     * - 큐가 가득 차 있어도 바로 수용하여 다른 스케줄 작업을 막지 않음
+     */
+    public void offerAll(Collection<EsContent> docs) {
+        enqueueAll(indexOps(docs), 0);
+    }
+
+    /**
+     * 일부 필드만 갱신 (EsContent 필드명 기준)
+     * - 카운터 동기화 flush(스케줄러 스레드)에서 호출되므로 대기하지 않음
+     */
+    public void update(Long id, Map<String, Object> fields) {
+        enqueueAll(Map.of(id, PendingOp.update(fields)), 0);
+    }
+
+    /** 문서 삭제 */
+    public void delete(Long id) {
+        enqueueAll(Map.of(id, PendingOp.delete()), offerTimeoutMs);
+    }
+
+    private static Map<Long, PendingOp> indexOps(Collection<EsContent> docs) {
+        Map<Long, PendingOp> ops = new LinkedHashMap<>();
+        docs.forEach(doc -> ops.merge(doc.getId(), PendingOp.index(doc), PendingOp::then));
+        return ops;
+    }
+
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업 묶음을 큐에 추가
+     * @param timeoutMs 묶음 전체에 대한 최대 대기 시간 (0이면 대기 없음), 초과 시 용량을 넘겨 수용
+     */
+    private void enqueueAll(Map<Long, PendingOp> ops, long timeoutMs) {
+        if (ops.isEmpty()) return;
+
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        int overCapacity = 0;
+        int size;
+        lock.lock();
+        try {
+            for (Map.Entry<Long, PendingOp> e : ops.entrySet()) {
+                // 이미 대기 중인 id에 대한 병합은 항상 허용, 새 id만 용량 제한
+                if (!pending.containsKey(e.getKey())) {
+                    while (pending.size() >= capacity && waitNanos > 0) {
+                        requestFlush();
+                        waitNanos = notFull.awaitNanos(waitNanos);
+                    }
+                    if (pending.size() >= capacity) overCapacity++;
+                }
+                pending.merge(e.getKey(), e.getValue(), PendingOp::then);
+            }
+            size = pending.size();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            // 남은 작업은 대기 없이 수용
+            ops.forEach((id, op) -> pending.merge(id, op, PendingOp::then));
+            size = pending.size();
+        } finally {
+            lock.unlock();
+        }
+
+        if (overCapacity > 0) {
+            overflows.increment(overCapacity);
+            log.warn("[ES-INDEXER] Queue full, accepted {} of {} ops over capacity (waited up to {} ms)",
+                    overCapacity, ops.size(), timeoutMs);
+        }
+        if (size >= bulkSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 시간 창: 대기 중인 작업을 주기적으로 모두 반영
+     */
+    @Scheduled(fixedDelayString = "${processor.es.indexer.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Long, PendingOp> batch;
+            while (!(batch = takeBatch()).isEmpty()) {
+                send(batch);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 작업 반영
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        flushExecutor.shutdown();
+    }
+
+    private Map<Long, PendingOp> takeBatch() {
+        lock.lock();
+        try {
+            Map<Long, PendingOp> batch = new LinkedHashMap<>();
+            Iterator<Map.Entry<Long, PendingOp>> it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < bulkSize) {
+                Map.Entry<Long, PendingOp> e = it.next();
+                batch.put(e.getKey(), e.getValue());
+                it.remove();
+            }
+            if (!batch.isEmpty()) notFull.signalAll();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send(Map<Long, PendingOp> batch) {
+        List<IndexQuery> indexQueries = new ArrayList<>();
+        List<UpdateQuery> updateQueries = new ArrayList<>();
+        List<String> deleteIds = new ArrayList<>();
+
+        batch.forEach((id, op) -> {
+            if (op.deleted) {
+                deleteIds.add(String.valueOf(id));
+                return;
+            }
+            if (op.doc != null) {
+                indexQueries.add(new IndexQueryBuilder().withId(String.valueOf(id)).withObject(op.doc).build());
+            }
+            if (op.fields != null && !op.fields.isEmpty()) {
+                updateQueries.add(UpdateQuery.builder(String.valueOf(id))
+                        .withDocument(Document.from(op.fields))
+                        .build());
+            }
+        });
+
+        Timer.Sample sample = Timer.start();
+        Map<Long, PendingOp> failed = new HashMap<>();
+        Set<String> failedIndexIds = Set.of();
+        Set<String> failedDeleteIds = Set.of();
+
+        // 1) 전체 색인 → 2) 부분 업데이트 순서 유지 (같은 id의 index 후 update가 올바르게 적용되도록)
+        if (!indexQueries.isEmpty()) {
+            BulkResult result = runBulk(() -> elasticsearchOperations.bulkIndex(indexQueries, EsContent.class),
+                    indexQueries.stream().map(IndexQuery::getId).toList());
+            failedIndexIds = result.failed();
+            // 색인 실패 시 같은 작업의 부분 업데이트도 함께 재시도 (영구 실패면 함께 폐기)
+            result.retryable().forEach(id -> failed.put(Long.parseLong(id), batch.get(Long.parseLong(id))));
+            Set<String> skipUpdates = failedIndexIds;
+            updateQueries.removeIf(q -> skipUpdates.contains(q.getId()));
+        }
+        if (!updateQueries.isEmpty()) {
+            BulkResult result = runBulk(() -> elasticsearchOperations.bulkUpdate(updateQueries, EsContent.class),
+                    updateQueries.stream().map(UpdateQuery::getId).toList());
+            result.retryable().forEach(id -> failed.putIfAbsent(Long.parseLong(id), PendingOp.update(batch.get(Long.parseLong(id)).fields)));
+        }
+        if (!deleteIds.isEmpty()) {
+            BulkResult result = bulkDelete(deleteIds);
+            failedDeleteIds = result.failed();
+            result.retryable().forEach(id -> failed.put(Long.parseLong(id), PendingOp.delete()));
+        }
+
+        sample.stop(bulkLatency);
+        invalidateSearchResults(batch, indexQueries, failedIndexIds, deleteIds, failedDeleteIds);
+        log.debug("[ES-INDEXER] Sent {} index / {} update / {} delete ops ({} failed)",
+                indexQueries.size(), updateQueries.size(), deleteIds.size(), failed.size());
+
+        if (!failed.isEmpty()) {
+            retry(batch, failed);
+        }
+    }
+
+    /**
+     * 반영된 변경에 맞춰 검색 결과 캐시 무효화
+     * - 신규/재색인 문서: 해당 source만, 삭제(숨김): source를 알 수 없으므로 전체
+     * - 카운터 부분 업데이트는 결과 구성에 영향이 작아 TTL 만료에 맡김
+     */
+    private void invalidateSearchResults(Map<Long, PendingOp> batch,
+                                         List<IndexQuery> indexQueries, Set<String> failedIndexIds,
+                                         List<String> deleteIds, Set<String> failedDeleteIds) {
+        if (deleteIds.size() > failedDeleteIds.size()) {
+            searchResultCache.invalidateAll();
+            return;
+        }
+        Set<String> sources = new HashSet<>();
+        for (IndexQuery q : indexQueries) {
+            if (failedIndexIds.contains(q.getId())) continue;
+            String source = batch.get(Long.parseLong(q.getId())).doc.getSource();
+            if (source != null) sources.add(source);
+        }
+        if (!sources.isEmpty()) searchResultCache.invalidateSources(sources);
+    }
+
+    /**
+     * bulk 요청 결과
+     * @param retryable 재시도할 문서 id (요청 자체 실패, 429/409/5xx 등 일시적 실패)
+     * @param rejected  재시도해도 같은 결과인 문서 id (문서 없음 404, 매핑 오류 400 등)
+     */
+    private record BulkResult(Set<String> retryable, Set<String> rejected) {
+        static final BulkResult OK = new BulkResult(Set.of(), Set.of());
+
+        Set<String> failed() {
+            if (rejected.isEmpty()) return retryable;
+            Set<String> all = new HashSet<>(retryable);
+            all.addAll(rejected);
+            return all;
+        }
+    }
+
+    /**
+     * bulk 요청 실행 후 실패한 문서 id 분류 (요청 자체가 실패하면 전체 재시도 대상)
+     */
+    private BulkResult runBulk(Runnable request, List<String> ids) {
+        try {
+            request.run();
+            return BulkResult.OK;
+        } catch (BulkFailureException ex) {
+            Set<String> retryable = new HashSet<>();
+            Set<String> rejectedIds = new HashSet<>();
+            ex.getFailedDocuments().forEach((id, details) ->
+                    (isRetryable(details) ? retryable : rejectedIds).add(id));
+            failures.increment(retryable.size());
+            rejected.increment(rejectedIds.size());
+            log.warn("[ES-INDEXER] {} of {} bulk items failed ({} not retryable): {}",
+                    ex.getFailedDocuments().size(), ids.size(), rejectedIds.size(),
+                    ex.getFailedDocuments().values().stream().findFirst().orElse(null));
+            return new BulkResult(retryable, rejectedIds);
+        } catch (Exception ex) {
+            failures.increment(ids.size());
+            log.error("[ES-INDEXER] Bulk request of {} items failed", ids.size(), ex);
+            return new BulkResult(Set.copyOf(ids), Set.of());
+        }
+    }
+
+    /**
+     * id 지정 bulk delete (이미 없는 문서는 not_found 결과일 뿐 실패가 아님)
+     * - 건별 실패는 색인/업데이트와 같은 기준으로 재시도/폐기 분류
+     */
+    private BulkResult bulkDelete(List<String> ids) {
+        String index = elasticsearchOperations.getIndexCoordinatesFor(EsContent.class).getIndexName();
+        List<BulkOperation> operations = ids.stream()
+                .map(id -> BulkOperation.of(b -> b.delete(d -> d.index(index).id(id))))
+                .toList();
+        try {
+            BulkResponse response = elasticsearchClient.bulk(b -> b.operations(operations));
+            if (!response.errors()) return BulkResult.OK;
+
+            Set<String> retryable = new HashSet<>();
+            Set<String> rejectedIds = new HashSet<>();
+            BulkResponseItem firstFailure = null;
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() == null) continue;
+                if (firstFailure == null) firstFailure = item;
+                (isRetryable(item.status()) ? retryable : rejectedIds).add(item.id());
+            }
+            failures.increment(retryable.size());
+            rejected.increment(rejectedIds.size());
+            log.warn("[ES-INDEXER] {} of {} bulk deletes failed ({} not retryable): {}",
+                    retryable.size() + rejectedIds.size(), ids.size(), rejectedIds.size(),
+                    firstFailure == null ? null : firstFailure.error().reason());
+            return new BulkResult(retryable, rejectedIds);
+        } catch (Exception ex) {
+            failures.increment(ids.size());
+            log.error("[ES-INDEXER] Bulk delete of {} items failed", ids.size(), ex);
+            return new BulkResult(Set.copyOf(ids), Set.of());
+        }
+    }
+
+    private static boolean isRetryable(BulkFailureException.FailureDetails details) {
+        return isRetryable(details.status());
+    }
+
+    /**
+     * 4xx 중 409(버전 충돌), 429(과부하 거절)만 일시적 실패로 간주
+     * - 404(document_missing: DB에만 있고 ES에 아직/더 이상 없는 문서의 부분 업데이트) 등은 재시도하지 않음
+     */
+    private static boolean isRetryable(Integer status) {
+        if (status == null || status < 400 || status >= 500) return true;
+        return status == 409 || status == 429;
+    }
+
+    /**
+     * 실패한 작업을 재시도 큐로 되돌림 (그 사이 들어온 최신 작업은 실패한 작업 뒤에 병합)
+     */
+    private void retry(Map<Long, PendingOp> batch, Map<Long, PendingOp> failed) {
+        lock.lock();
+        try {
+            failed.forEach((id, op) -> {
+                int attempts = batch.get(id).attempts + 1;
+                if (attempts > maxRetries) {
+                    dropped.increment();
+                    log.error("[ES-INDEXER] Dropping EsContent op for id={} after {} attempts", id, attempts);
+                    return;
+                }
+                retries.increment();
+                op.attempts = attempts;
+                PendingOp newer = pending.remove(id);
+                pending.put(id, newer == null ? op : op.then(newer));
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * id 하나에 대해 병합된 대기 작업
+     * - deleted: 삭제 (다른 필드 무시)
+     * - doc: 전체 색인 문서
+     * - fields: doc 색인 후 적용할 부분 업데이트 필드
+     */
+    private static final class PendingOp {
+        private final EsContent doc;
+        private final Map<String, Object> fields;
+        private final boolean deleted;
+        private int attempts;
+
+        private PendingOp(EsContent doc, Map<String, Object> fields, boolean deleted, int attempts) {
+            this.doc = doc;
+            this.fields = fields;
+            this.deleted = deleted;
+            this.attempts = attempts;
+        }
+
+        static PendingOp index(EsContent doc) {
+            return new PendingOp(doc, null, false, 0);
+        }
+
+        static PendingOp update(Map<String, Object> fields) {
+            return new PendingOp(null, new HashMap<>(fields), false, 0);
+        }
+
+        static PendingOp delete() {
+            return new PendingOp(null, null, true, 0);
+        }
+
+        /** 이 작업 뒤에 next를 적용한 결과 */
+        PendingOp then(PendingOp next) {
+            if (next.deleted || next.doc != null) {
+                return new PendingOp(next.doc, next.fields, next.deleted, attempts);
+            }
+            // 삭제된 문서에 대한 부분 업데이트는 의미 없음
+            if (deleted) return this;
+            Map<String, Object> merged = new HashMap<>();
+            if (fields != null) merged.putAll(fields);
+            merged.putAll(next.fields);
+            return new PendingOp(doc, merged, false, attempts);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.devnote.processor_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.ko.POS;
+import org.apache.lucene.analysis.ko.tokenattributes.PartOfSpeechAttribute;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 로그용 Nori 명사 추출기
+ * - KoreanAnalyzer는 애플리케이션 전체에서 하나만 생성 (사전 로딩 1회)
+ *   · Analyzer는 스레드별로 토크나이저/TokenStream을 재사용하므로 여러 스레드에서 공유해도 안전
+ * - 공백을 정규화한 검색어 → 추출된 명사 목록을 LRU(Caffeine)로 캐시 (인기 검색어는 분석 생략)
+ */
+@Component
+@Slf4j
+public class SearchKeywordExtractor {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final KoreanAnalyzer analyzer = new KoreanAnalyzer(
+            null,
+            KoreanTokenizer.DecompoundMode.MIXED,
+            Set.of(),
+            false
+    );
+    private final Cache<String, List<String>> cache;
+
+    public SearchKeywordExtractor(
+            MeterRegistry meterRegistry,
+            @Value("${processor.search-log.keyword-cache-size:10000}") long cacheSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search.keywords");
+    }
+
+    /**
+     * NNG(일반명사), NNP(고유명사), SL(외국어) 토큰 추출
+     * @return 추출된 명사 목록 (분석 실패 시 빈 목록, 캐시하지 않음)
+     */
+    public List<String> extractNouns(String text) {
+        String normalized = WHITESPACE.matcher(text.trim()).replaceAll(" ");
+        List<String> cached = cache.getIfPresent(normalized);
+        if (cached != null) return cached;
+
+        List<String> keywords = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream("query", normalized)) {
+            CharTermAttribute termAtt = tokenStream.addAttribute(CharTermAttribute.class);
+            PartOfSpeechAttribute posAtt = tokenStream.addAttribute(PartOfSpeechAttribute.class);
+
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                POS.Tag pos = posAtt.getLeftPOS(); // 품사 정보 (POS.Tag enum 반환)
+                if (pos == POS.Tag.NNG || pos == POS.Tag.NNP || pos == POS.Tag.SL) {
+                    keywords.add(termAtt.toString());
+                }
+            }
+            tokenStream.end();
+        } catch (Exception e) {
+            log.error("Nori analysis failed: {}", text, e);
+            return List.of();
+        }
+
+        List<String> result = List.copyOf(keywords);
+        cache.put(normalized, result);
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        analyzer.close();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.es.EsSearchLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.PutIndexTemplateRequest;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 검색 로그 일별 인덱스 관리
+ * - 쓰기: 분 버킷 시각(UTC) 기준 일별 인덱스 search_logs-yyyy.MM.dd
+ * - 인덱스 템플릿(search_logs-*)으로 새 일별 인덱스에 매핑과 읽기 alias(search_logs_read)를 자동 적용
+ * - 보관 기간이 지난 일별 인덱스는 매일 삭제, 단일 인덱스 시절의 search_logs는 보관 기간 내 문서가 없어지면 삭제
+ */
+@Component
+@Slf4j
+public class SearchLogIndexManager {
+    public static final String INDEX_PREFIX = "search_logs-";
+    public static final String READ_ALIAS = "search_logs_read";
+    /** 일별 인덱스 전환 이전의 단일 인덱스 */
+    public static final String LEGACY_INDEX = "search_logs";
+
+    private static final String TEMPLATE_NAME = "search_logs";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final int retentionDays;
+    private final Counter deletedIndices;
+
+    /** 템플릿 등록 전에는 쓰기 직전에 다시 시도 */
+    private volatile boolean templateReady = false;
+
+    public SearchLogIndexManager(
+            ElasticsearchOperations elasticsearchOperations,
+            MeterRegistry meterRegistry,
+            @Value("${processor.search-log.retention-days:90}") int retentionDays
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.retentionDays = retentionDays;
+        this.deletedIndices = meterRegistry.counter("search.log.indices.deleted");
+    }
+
+    /**
+     * 분 버킷 시각이 속한 일별 인덱스 이름 (UTC 날짜)
+     */
+    public static String indexFor(Instant time) {
+        return INDEX_PREFIX + DAY_FORMAT.format(time.atOffset(ZoneOffset.UTC));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        ensureTemplate();
+        aliasLegacyIndex();
+    }
+
+    /**
+     * 일별 인덱스 템플릿 등록 (매핑은 EsSearchLog 기준, 이미 있으면 덮어씀)
+     */
+    public void ensureTemplate() {
+        if (templateReady) return;
+        try {
+            IndexOperations indexOps = elasticsearchOperations.indexOps(EsSearchLog.class);
+            PutIndexTemplateRequest request = PutIndexTemplateRequest.builder()
+                    .withName(TEMPLATE_NAME)
+                    .withIndexPatterns(INDEX_PREFIX + "*")
+                    .withMapping(indexOps.createMapping(EsSearchLog.class))
+                    .withAliasActions(new AliasActions(new AliasAction.Add(
+                            AliasActionParameters.builderForTemplate().withAliases(READ_ALIAS).build())))
+                    .build();
+            indexOps.putIndexTemplate(request);
+            templateReady = true;
+            log.info("[SEARCH-LOG] Index template '{}' registered for {}*", TEMPLATE_NAME, INDEX_PREFIX);
+        } catch (Exception ex) {
+            log.error("[SEARCH-LOG] Failed to register index template, will retry before next write", ex);
+        }
+    }
+
+    /**
+     * 이전 단일 인덱스도 읽기 alias로 조회되도록 연결 (보관 기간 동안)
+     */
+    private void aliasLegacyIndex() {
+        try {
+            IndexOperations legacyOps = elasticsearchOperations.indexOps(IndexCoordinates.of(LEGACY_INDEX));
+            if (!legacyOps.exists()) return;
+            legacyOps.alias(new AliasActions(new AliasAction.Add(
+                    AliasActionParameters.builder().withIndices(LEGACY_INDEX).withAliases(READ_ALIAS).build())));
+        } catch (Exception ex) {
+            log.warn("[SEARCH-LOG] Failed to alias legacy index '{}'", LEGACY_INDEX, ex);
+        }
+    }
+
+    /**
+     * 매일 04:00(KST) 보관 기간이 지난 검색 로그 인덱스 삭제
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays);
+        try {
+            List<IndexInformation> indices = elasticsearchOperations
+                    .indexOps(IndexCoordinates.of(INDEX_PREFIX + "*"))
+                    .getInformation(IndexCoordinates.of(INDEX_PREFIX + "*"));
+            for (IndexInformation info : indices) {
+                LocalDate day = parseDay(info.getName());
+                if (day != null && day.isBefore(cutoff)) {
+                    delete(info.getName());
+                }
+            }
+            purgeLegacyIfExpired();
+        } catch (Exception ex) {
+            log.error("[SEARCH-LOG] Retention run failed", ex);
+        }
+    }
+
+    private void purgeLegacyIfExpired() {
+        IndexCoordinates legacy = IndexCoordinates.of(LEGACY_INDEX);
+        if (!elasticsearchOperations.indexOps(legacy).exists()) return;
+
+        Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        long recent = elasticsearchOperations.count(
+                new CriteriaQuery(new Criteria("timestamp").greaterThanEqual(cutoff.toEpochMilli())), legacy);
+        if (recent == 0) {
+            delete(LEGACY_INDEX);
+        }
+    }
+
+    private void delete(String index) {
+        if (elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete()) {
+            deletedIndices.increment();
+            log.info("[SEARCH-LOG] Deleted expired index '{}' (retention {} days)", index, retentionDays);
+        }
+    }
+
+    /** search_logs-yyyy.MM.dd 에서 날짜 추출, 형식이 다르면 null (삭제 대상 아님) */
+    private static LocalDate parseDay(String index) {
+        if (!index.startsWith(INDEX_PREFIX)) return null;
+        try {
+            return LocalDate.parse(index.substring(INDEX_PREFIX.length()), DAY_FORMAT);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.es.EsContent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 콘텐츠 검색 결과 캐시 (인스턴스 로컬 Caffeine, 짧은 TTL)
+ * - 키: 정규화된 검색어(NFKC, 공백 축약, 소문자) + source + category + 정렬 + 응답 필드 + 페이지
+ * - 같은 키 동시 미스는 Caffeine이 한 번만 로드 (single-flight, ES 요청 1회)
+ * - source별 세대 번호를 키에 포함하여, 새 콘텐츠가 색인되면 해당 source 결과를 한 번에 무효화
+ *   · 무효화는 Pub/Sub으로 모든 인스턴스에 전파, 무효화 이전에 시작된 로드 결과는 이전 세대 키로만 남음
+ * - 알려진 source(YOUTUBE, NEWS)만 캐시 (요청 파라미터 값마다 세대 항목/캐시 키가 늘어나지 않도록 나머지는 바로 검색)
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+    static final String INVALIDATION_CHANNEL = "search:invalidate";
+    /** 모든 source 무효화 (삭제/숨김처럼 source를 알 수 없는 변경) */
+    private static final String ALL_SOURCES = "*";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Set<String> KNOWN_SOURCES = Set.of("YOUTUBE", "NEWS");
+
+    /** 캐시된 한 페이지 (문서 목록 + 전체 건수) */
+    public record Result(List<EsContent> items, long totalHits) {}
+
+    private record Key(long globalGeneration, long sourceGeneration, String query, String source, String category,
+                       String sort, String fields, int page, int size) {}
+
+    private final StringRedisTemplate sredis;
+    private final Cache<Key, Result> local;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final int maxPage;
+
+    public SearchResultCache(
+            StringRedisTemplate sredis,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${processor.search-cache.max-size:10000}") long maxSize,
+            @Value("${processor.search-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${processor.search-cache.max-page:10}") int maxPage
+    ) {
+        this.sredis = sredis;
+        this.maxPage = maxPage;
+        KNOWN_SOURCES.forEach(s -> generations.put(s, new AtomicLong()));
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "content.search.cache");
+        Gauge.builder("content.search.cache.hit_ratio", local, c -> c.stats().hitRate()).register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) ->
+                        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회, 미스면 loader로 ES 검색 (깊은 페이지, 알 수 없는 source는 캐시하지 않음)
+     */
+    public Result get(String query, String source, String category, String sort, String fields,
+                      int page, int size, Supplier<Result> loader) {
+        if (page >= maxPage) return loader.get();
+
+        String normalizedSource = source.toUpperCase(Locale.ROOT);
+        AtomicLong sourceGeneration = generations.get(normalizedSource);
+        if (sourceGeneration == null) return loader.get();
+
+        Key key = new Key(
+                globalGeneration.get(),
+                sourceGeneration.get(),
+                normalizeQuery(query),
+                normalizedSource,
+                category == null || category.isBlank() ? "" : category,
+                sort.toLowerCase(Locale.ROOT),
+                fields == null ? "" : fields,
+                page,
+                size);
+        return local.get(key, k -> loader.get());
+    }
+
+    /**
+     * 새 콘텐츠가 색인된 source의 검색 결과 무효화 (모든 인스턴스)
+     */
+    public void invalidateSources(Collection<String> sources) {
+        sources.forEach(this::publish);
+    }
+
+    /**
+     * 모든 검색 결과 무효화 (모든 인스턴스)
+     */
+    public void invalidateAll() {
+        publish(ALL_SOURCES);
+    }
+
+    /** 대소문자/공백/전각 문자 차이를 같은 검색어로 취급 */
+    static String normalizeQuery(String query) {
+        String nfkc = Normalizer.normalize(query, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(nfkc.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private void publish(String source) {
+        String normalized = source == null ? ALL_SOURCES : source.toUpperCase(Locale.ROOT);
+        invalidateLocal(normalized);
+        try {
+            sredis.convertAndSend(INVALIDATION_CHANNEL, normalized);
+        } catch (Exception ex) {
+            log.warn("Failed to publish search cache invalidation for source {}", normalized, ex);
+        }
+    }
+
+    private void invalidateLocal(String source) {
+        if (ALL_SOURCES.equals(source)) {
+            globalGeneration.incrementAndGet();
+            local.invalidateAll();
+            return;
+        }
+        AtomicLong sourceGeneration = generations.get(source);
+        if (sourceGeneration == null) return;
+        sourceGeneration.incrementAndGet();
+        local.asMap().keySet().removeIf(k -> k.source().equals(source));
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.devnote.processor_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 검색어 로그 사전 집계기
+ * - 검색어(명사)별 횟수를 (검색어, source, 분) 버킷으로 메모리에서 합산
+ * - 주기적으로 버킷을 일별 인덱스(search_logs-yyyy.MM.dd)별 bulk upsert로 반영 (count += n, 버킷별 고정 문서 id)
+ *   · 같은 분 버킷이 여러 번/여러 인스턴스에서 반영되어도 count만 누적되므로 결과가 같음
+ * - 반영 1건마다 flush 토큰을 함께 보내고 문서에 최근 토큰(applied)을 기록하여, 이미 반영된 토큰은 건너뜀
+ *   · 실패/결과 불명(타임아웃 등)인 건만 같은 토큰으로 재시도하므로 성공한 건이 두 번 더해지지 않음
+ *   · 같은 버킷이라도 토큰이 다르면 별개의 증가분이므로 토큰별로 나누어 보냄 (bulk 안에서 문서 id가 겹치지 않게)
+ *   · ES 장애가 길어지면 재시도 대기분은 max-retry-buckets까지만 보관하고 오래된 것부터 버림
+ * - IP별 중복 방지(같은 IP가 같은 검색어를 10분 내 다시 검색하면 무시)는 인스턴스 로컬 캐시로 처리
+ */
+@Component
+@Slf4j
+public class SearchTermAggregator {
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SEARCH_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    /** 문서별로 기억할 최근 반영 토큰 수 (분 버킷 하나에 대한 flush/재시도 횟수보다 충분히 크게) */
+    private static final int APPLIED_TOKENS_KEPT = 32;
+    private static final String UPSERT_SCRIPT =
+            "if (ctx._source.applied == null) { ctx._source.applied = new ArrayList(); } " +
+            "if (ctx._source.applied.contains(params.token)) { ctx.op = 'none'; } else { " +
+            "ctx._source.count = (ctx._source.count == null ? 0 : ctx._source.count) + params.count; " +
+            "ctx._source.applied.add(params.token); " +
+            "if (ctx._source.applied.size() > params.keep) { ctx._source.applied.remove(0); } }";
+
+    /** 분 단위 집계 버킷 */
+    private record Bucket(String term, String source, Instant minute) {}
+
+    /** 반영할 증가분 1건 (재시도 시 같은 토큰을 그대로 사용) */
+    private record Write(Bucket bucket, long count, String token) {}
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchLogIndexManager indexManager;
+    private final Cache<String, Boolean> recentSearches;
+    private final ConcurrentHashMap<Bucket, Long> pending = new ConcurrentHashMap<>();
+    /** 반영 실패/결과 불명으로 같은 토큰으로 다시 보낼 증가분 */
+    private final ConcurrentLinkedQueue<Write> retries = new ConcurrentLinkedQueue<>();
+
+    private final int maxRetryBuckets;
+
+    private final Counter flushedDocs;
+    private final Counter failures;
+    private final Counter droppedBuckets;
+
+    public SearchTermAggregator(
+            ElasticsearchOperations elasticsearchOperations,
+            SearchLogIndexManager indexManager,
+            MeterRegistry meterRegistry,
+            @Value("${processor.search-log.dedup-max-size:500000}") long dedupMaxSize,
+            @Value("${processor.search-log.max-retry-buckets:100000}") int maxRetryBuckets
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.indexManager = indexManager;
+        this.recentSearches = Caffeine.newBuilder()
+                .maximumSize(dedupMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.maxRetryBuckets = maxRetryBuckets;
+
+        Gauge.builder("search.log.pending.buckets", pending, Map::size).register(meterRegistry);
+        Gauge.builder("search.log.retry.buckets", retries, Collection::size).register(meterRegistry);
+        this.flushedDocs = meterRegistry.counter("search.log.flushed");
+        this.failures = meterRegistry.counter("search.log.failures");
+        this.droppedBuckets = meterRegistry.counter("search.log.retry.dropped");
+    }
+
+    /**
+     * IP 기준 10분 내 첫 검색인지 확인 (인스턴스 로컬)
+     * @return 처음이면 true
+     */
+    public boolean firstSearch(String ip, String query) {
+        return recentSearches.asMap().putIfAbsent(ip + "\u0000" + query, Boolean.TRUE) == null;
+    }
+
+    /**
+     * 검색어를 현재 분 버킷에 1씩 누적
+     */
+    public void record(Collection<String> terms, String source) {
+        Instant minute = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+        String normalizedSource = source.toUpperCase(Locale.ROOT);
+        for (String term : terms) {
+            pending.merge(new Bucket(term, normalizedSource, minute), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 누적된 버킷을 bulk upsert로 반영
+     * - 실패한 건만 같은 토큰으로 다음 주기에 재시도 (이미 반영된 토큰이면 ES에서 건너뜀)
+     * - 토큰별로 따로 보내므로 같은 버킷의 재시도 건이 여러 개여도 모두 반영됨
+     */
+    @Scheduled(fixedDelayString = "${processor.search-log.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        // 오래된 재시도 건부터, 마지막에 이번 주기 신규 건 (토큰 단위로 묶음)
+        Map<String, List<Write>> byToken = new LinkedHashMap<>();
+        for (Write write; (write = retries.poll()) != null; ) {
+            byToken.computeIfAbsent(write.token(), k -> new ArrayList<>()).add(write);
+        }
+
+        // 버킷별로 원자적으로 꺼내어, 꺼낸 이후 도착한 검색은 다음 주기로 넘어가도록 함
+        String token = UUID.randomUUID().toString();
+        for (Bucket bucket : pending.keySet()) {
+            Long count = pending.remove(bucket);
+            if (count != null) byToken.computeIfAbsent(token, k -> new ArrayList<>()).add(new Write(bucket, count, token));
+        }
+        if (byToken.isEmpty()) return;
+
+        // 템플릿이 없으면 일별 인덱스가 동적 매핑으로 생성되므로 쓰기 전에 보장
+        indexManager.ensureTemplate();
+
+        // 한 토큰 안에서는 버킷(문서 id)이 겹치지 않으므로 토큰별 bulk로 보내면 덮어쓰는 건이 없음
+        List<Write> failed = new ArrayList<>();
+        for (List<Write> writes : byToken.values()) {
+            send(writes, failed);
+        }
+
+        // 재시도 대기분 상한: 넘치면 가장 오래된 건부터 버림
+        int overflow = Math.max(0, failed.size() - maxRetryBuckets);
+        if (overflow > 0) {
+            droppedBuckets.increment(overflow);
+            log.error("Search term retry backlog exceeded {} buckets, dropped {} oldest", maxRetryBuckets, overflow);
+        }
+        retries.addAll(failed.subList(overflow, failed.size()));
+    }
+
+    /**
+     * 버킷 시각이 속한 일별 인덱스별로 나누어 반영 (자정 직후에는 전날/당일 두 인덱스)
+     */
+    private void send(List<Write> writes, List<Write> failed) {
+        Map<String, Map<String, Write>> byIndex = new HashMap<>();
+        for (Write write : writes) {
+            byIndex.computeIfAbsent(SearchLogIndexManager.indexFor(write.bucket().minute()), k -> new HashMap<>())
+                    .put(documentId(write.bucket()), write);
+        }
+
+        byIndex.forEach((index, byId) -> {
+            List<UpdateQuery> updates = new ArrayList<>(byId.size());
+            byId.forEach((id, write) -> updates.add(UpdateQuery.builder(id)
+                    .withScript(UPSERT_SCRIPT)
+                    .withLang("painless")
+                    .withParams(Map.of("count", write.count(), "token", write.token(), "keep", APPLIED_TOKENS_KEPT))
+                    .withUpsert(upsertDocument(write))
+                    .withRetryOnConflict(3)
+                    .build()));
+
+            try {
+                elasticsearchOperations.bulkUpdate(updates, IndexCoordinates.of(index));
+                flushedDocs.increment(updates.size());
+                log.debug("Flushed {} search term buckets to {}", updates.size(), index);
+            } catch (BulkFailureException ex) {
+                // 실패한 문서만 재시도 (성공한 문서를 다시 보내면 count가 중복 누적됨)
+                Set<String> failedIds = ex.getFailedDocuments().keySet();
+                failures.increment();
+                flushedDocs.increment(updates.size() - failedIds.size());
+                log.warn("Failed to flush {} of {} search term buckets to {}, will retry next window: {}",
+                        failedIds.size(), updates.size(), index,
+                        ex.getFailedDocuments().values().stream().findFirst().orElse(null));
+                failedIds.forEach(id -> {
+                    Write write = byId.get(id);
+                    if (write != null) failed.add(write);
+                });
+            } catch (Exception ex) {
+                // 결과 불명 (타임아웃 등): 일부가 반영되었을 수 있으므로 같은 토큰으로 전체 재시도
+                failures.increment();
+                log.error("Failed to flush {} search term buckets to {}, will retry next window", updates.size(), index, ex);
+                failed.addAll(byId.values());
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남은 버킷 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private static Document upsertDocument(Write write) {
+        Bucket bucket = write.bucket();
+        Document doc = Document.create();
+        doc.put("query", bucket.term());
+        doc.put("source", bucket.source());
+        doc.put("count", write.count());
+        doc.put("timestamp", bucket.minute().toEpochMilli());
+        doc.put("searchTime", LocalDateTime.ofInstant(bucket.minute(), KST).format(SEARCH_TIME_FORMAT));
+        doc.put("applied", List.of(write.token()));
+        return doc;
+    }
+
+    /** (source, 분, 검색어)로 정해지는 고정 문서 id */
+    private static String documentId(Bucket bucket) {
+        String raw = bucket.source() + "\u0000" + bucket.minute().toEpochMilli() + "\u0000" + bucket.term();
+        return UUID.nameUUIDFromBytes(raw.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.devnote.processor_service.service;
+
+import com.example.devnote.processor_service.util.ScalableBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미 수집된 (source, link) 쌍을 기억하는 인메모리 Bloom Filter
+ * - 기동 시 contents 테이블 전체로 재구성
+ * - mightContain == false 인 메시지는 DB 중복 조회 없이 바로 신규로 처리
+ * - "있을 수도 있음"인 메시지만 DB에서 중복 여부 확인
+ */
+@Component
+@Slf4j
+public class SeenLinkFilter {
+    private final JdbcTemplate jdbcTemplate;
+    private final ScalableBloomFilter filter;
+
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    /** 재구성 완료 전에는 모든 키를 "있을 수도 있음"으로 취급 (DB 확인) */
+    private volatile boolean ready = false;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong maybeSeen = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final Counter checkCounter;
+    private final Counter maybeSeenCounter;
+    private final Counter falsePositiveCounter;
+
+    public SeenLinkFilter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${processor.seen-filter.initial-capacity:1000000}") long initialCapacity,
+            @Value("${processor.seen-filter.fpp:0.01}") double fpp
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.filter = new ScalableBloomFilter(initialCapacity, fpp);
+
+        this.checkCounter = meterRegistry.counter("content.seen_filter.checks");
+        this.maybeSeenCounter = meterRegistry.counter("content.seen_filter.maybe_seen");
+        this.falsePositiveCounter = meterRegistry.counter("content.seen_filter.false_positives");
+        Gauge.builder("content.seen_filter.size", filter, ScalableBloomFilter::size).register(meterRegistry);
+        Gauge.builder("content.seen_filter.expected_fpp", filter, ScalableBloomFilter::expectedFpp).register(meterRegistry);
+        Gauge.builder("content.seen_filter.observed_fpp", this, SeenLinkFilter::observedFpp).register(meterRegistry);
+        Gauge.builder("content.seen_filter.hit_ratio", this, SeenLinkFilter::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 후 contents 테이블로 필터 재구성
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            // fetchSize 지정으로 결과를 스트리밍하여 전체 테이블을 메모리에 올리지 않음
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT source, link FROM contents");
+                ps.setFetchSize(REBUILD_FETCH_SIZE);
+                return ps;
+            }, rs -> {
+                filter.put(key(rs.getString("source"), rs.getString("link")));
+                loaded.incrementAndGet();
+            });
+            ready = true;
+            log.info("[SEEN-FILTER] Rebuilt with {} links in {} ms (stages={}, expectedFpp={})",
+                    loaded.get(), System.currentTimeMillis() - started, filter.stageCount(), filter.expectedFpp());
+        } catch (Exception ex) {
+            log.error("[SEEN-FILTER] Rebuild failed, falling back to DB duplicate checks", ex);
+        }
+    }
+
+    /**
+     * @return false 이면 확실히 처음 보는 링크, true 이면 DB 확인 필요
+     */
+    public boolean mightContain(String source, String link) {
+        if (!ready) return true;
+
+        checks.incrementAndGet();
+        checkCounter.increment();
+        if (!filter.mightContain(key(source, link))) {
+            return false;
+        }
+        maybeSeen.incrementAndGet();
+        maybeSeenCounter.increment();
+        return true;
+    }
+
+    public void put(String source, String link) {
+        filter.put(key(source, link));
+    }
+
+    /** "있을 수도 있음" 판정이 DB 확인 결과 신규였던 경우 기록 */
+    public void recordFalsePositives(long count) {
+        if (!ready || count <= 0) return;
+        falsePositives.addAndGet(count);
+        falsePositiveCounter.increment(count);
+    }
+
+    /** 관측 오탐률 = 오탐 / "있을 수도 있음" 판정 */
+    public double observedFpp() {
+        long maybe = maybeSeen.get();
+        return maybe == 0 ? 0.0 : (double) falsePositives.get() / maybe;
+    }
+
+    /** 히트율 = "있을 수도 있음" 판정 / 전체 확인 */
+    public double hitRatio() {
+        long total = checks.get();
+        return total == 0 ? 0.0 : (double) maybeSeen.get() / total;
+    }
+
+    private static String key(String source, String link) {
+        return source + ":" + link;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.devnote.processor_service.service;
 
 import com.example.devnote.processor_service.entity.ContentEntity;
 import com.example.devnote.processor_service.es.EsContent;
-import com.example.devnote.processor_service.es.EsContentRepository;
 import com.example.devnote.processor_service.repository.ContentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +22,7 @@ import java.util.List;
 public class SyncService {
 
     private final ContentRepository contentRepository;
-    private final EsContentRepository esContentRepository;
+    private final EsContentIndexer esContentIndexer;
 
     /**
      * 매 시간마다 최근 1시간 동안 생성/수정된 데이터를 자동으로 동기화
@@ -51,7 +50,8 @@ public class SyncService {
                 .map(this::toEsContent)
                 .toList();
 
-        esContentRepository.saveAll(esDocuments);
+        // 스케줄러 스레드이므로 큐가 가득 차도 대기하지 않음
+        esContentIndexer.offerAll(esDocuments);
 
         log.info("[SCHEDULED] Automatically reconciled {} documents.", esDocuments.size());
     }
@@ -85,10 +85,10 @@ public class SyncService {
                 .map(this::toEsContent)
                 .toList();
 
-        // 3. Elasticsearch에 일괄 저장(saveAll)
-        esContentRepository.saveAll(esDocuments);
+        // 3. Elasticsearch 색인 큐에 전달 (bulk 색인)
+        esContentIndexer.indexAll(esDocuments);
 
-        log.info("Successfully synced {} documents to Elasticsearch.", esDocuments.size());
+        log.info("Queued {} documents for Elasticsearch sync.", esDocuments.size());
         return esDocuments.size();
     }
 
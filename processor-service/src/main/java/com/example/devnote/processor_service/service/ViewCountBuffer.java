@@ -0,0 +1,115 @@
+package com.example.devnote.processor_service.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 노드 로컬 조회수 버퍼
+ * - 요청 스레드는 콘텐츠별 LongAdder만 증가시키고 즉시 반환
+ * - 몇 초마다 누적분을 Redis에 INCRBY + dirty 집합 SADD 파이프라인 1회로 반영
+ * - 종료 시(close) 남은 누적분을 모두 Redis로 내보냄
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+    static final String VIEW_KEY_FMT = "views:content:%s:count";
+    static final String VIEW_DIRTY_KEY = "views:dirty";
+    private static final byte[] VIEW_DIRTY_KEY_BYTES = VIEW_DIRTY_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate sredis;
+
+    /**
+     * 증가(read lock)는 서로 막지 않고, 버퍼 교체(write lock)만 배타적으로 수행
+     * - 교체 이후에는 이전 버퍼를 아무도 참조하지 않으므로 합산 중 증가분이 유실되지 않음
+     */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    public ViewCountBuffer(StringRedisTemplate sredis) {
+        this.sredis = sredis;
+    }
+
+    /** 조회수 1 증가 (로컬 버퍼) */
+    public void increment(Long id) {
+        add(id, 1);
+    }
+
+    private void add(Long id, long delta) {
+        swapLock.readLock().lock();
+        try {
+            counts.computeIfAbsent(id, k -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        // 종료 이후 들어온 증가분은 즉시 반영
+        if (closed) push();
+    }
+
+    /**
+     * 누적분을 Redis로 반영 (실패 시 버퍼로 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${processor.views.push-interval-ms:3000}")
+    public synchronized void push() {
+        Map<Long, Long> snapshot = drain();
+        if (snapshot.isEmpty()) return;
+
+        try {
+            sredis.executePipelined((RedisCallback<Object>) conn -> {
+                snapshot.forEach((id, delta) -> {
+                    conn.stringCommands().incrBy(VIEW_KEY_FMT.formatted(id).getBytes(StandardCharsets.UTF_8), delta);
+                    conn.setCommands().sAdd(VIEW_DIRTY_KEY_BYTES, String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+                });
+                return null;
+            });
+            log.debug("Pushed view counts for {} contents to Redis", snapshot.size());
+        } catch (Exception ex) {
+            log.error("Failed to push {} view counts to Redis, keeping them buffered", snapshot.size(), ex);
+            swapLock.readLock().lock();
+            try {
+                snapshot.forEach((id, delta) -> counts.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        push();
+    }
+
+    /** 현재 버퍼를 새 버퍼로 교체하고 이전 버퍼의 합계를 반환 */
+    private Map<Long, Long> drain() {
+        ConcurrentHashMap<Long, LongAdder> previous;
+        swapLock.writeLock().lock();
+        try {
+            previous = counts;
+            counts = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<Long, Long> snapshot = new HashMap<>(previous.size());
+        previous.forEach((id, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) snapshot.put(id, sum);
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.devnote.processor_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 1건 기록 (IP+UA 기준 10분 중복 방지 후 로컬 조회수 버퍼에 누적)
+ * - record: 호출 스레드에서 바로 기록
+ * - recordAsync: 중복 방지 Redis 호출까지 전용 스레드에서 처리 (리다이렉트 응답 경로에서 분리)
+ *   · 큐가 가득 차면 해당 조회는 버리고 메트릭으로 남김 (응답 지연보다 조회수 일부 유실을 택함)
+ */
+@Component
+@Slf4j
+public class ViewRecorder {
+    private static final String DEDUP_KEY_FMT = "views:dedup:%d:%s";
+    private static final Duration DEDUP_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate sredis;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ThreadPoolExecutor executor;
+    private final Counter dropped;
+
+    public ViewRecorder(
+            StringRedisTemplate sredis,
+            ViewCountBuffer viewCountBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${processor.views.async-threads:2}") int threads,
+            @Value("${processor.views.async-queue-capacity:10000}") int queueCapacity
+    ) {
+        this.sredis = sredis;
+        this.viewCountBuffer = viewCountBuffer;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "view-recorder");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.dropped = meterRegistry.counter("content.views.async.dropped");
+        meterRegistry.gauge("content.views.async.queue.depth", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 호출 스레드에서 조회 기록
+     */
+    public void record(Long id, @Nullable HttpServletRequest req) {
+        record(id, clientKey(req));
+    }
+
+    /**
+     * 요청 정보만 호출 스레드에서 읽고 나머지는 비동기로 기록
+     */
+    public void recordAsync(Long id, @Nullable HttpServletRequest req) {
+        String clientKey = clientKey(req);
+        try {
+            executor.execute(() -> record(id, clientKey));
+        } catch (RejectedExecutionException ex) {
+            dropped.increment();
+        }
+    }
+
+    private void record(Long id, @Nullable String clientKey) {
+        try {
+            if (clientKey != null) {
+                Boolean first = sredis.opsForValue().setIfAbsent(DEDUP_KEY_FMT.formatted(id, clientKey), "1", DEDUP_TTL);
+                if (Boolean.FALSE.equals(first)) return;
+            }
+            // 로컬 버퍼에 누적 (몇 초마다 Redis로 일괄 반영)
+            viewCountBuffer.increment(id);
+        } catch (Exception ex) {
+            log.warn("Failed to record view for content {}", id, ex);
+        }
+    }
+
+    /** IP+UA 해시 (요청이 없으면 중복 방지 없이 기록) */
+    @Nullable
+    private static String clientKey(@Nullable HttpServletRequest req) {
+        if (req == null) return null;
+        String ip = Optional.ofNullable(req.getHeader("X-Forwarded-For"))
+                .map(x -> x.split(",")[0].trim())
+                .orElseGet(req::getRemoteAddr);
+        String ua = Optional.ofNullable(req.getHeader("User-Agent")).orElse("-");
+        return Integer.toHexString(Objects.hash(ip, ua));
+    }
+
+    /**
+     * 종료 시 대기 중인 기록을 처리 (ViewCountBuffer가 닫히기 전에 버퍼로 넘김)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("View recorder did not drain in time, {} views dropped", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.devnote.processor_service.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 콘텐츠 목록 keyset 페이지네이션 커서
+ * - "정렬|마지막 정렬 키 값|마지막 id"를 base64url로 인코딩한 불투명 문자열
+ * - 정렬 키 값이 null이면 빈 문자열로 기록
+ */
+@Getter
+@AllArgsConstructor
+public class ContentCursor {
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    /** 마지막 항목의 정렬 키 값 (Instant 또는 Long, null 가능) */
+    private final Comparable<?> value;
+    private final Long id;
+
+    public String encode() {
+        String raw = sort + SEPARATOR + (value == null ? "" : value.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param valueType 정렬 키 타입 (Instant 또는 Long)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ContentCursor decode(String cursor, Class<?> valueType) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        Comparable<?> value = null;
+        if (!parts[1].isEmpty()) {
+            value = valueType == Instant.class ? Instant.parse(parts[1]) : Long.valueOf(parts[1]);
+        }
+        return new ContentCursor(parts[0], value, Long.valueOf(parts[2]));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.devnote.processor_service.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 콘텐츠 목록/검색 응답의 필드 선택 (sparse fieldset)
+ * - 필드명은 ContentDto / EsContent / ContentEntity 공통 속성명
+ * - 미지정 시 카드 목록에 필요한 필드(CARD, description 제외)만 조회
+ */
+public final class ContentFields {
+    public static final Set<String> ALL = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "source", "category", "channelId", "title", "description", "link", "thumbnailUrl",
+            "publishedAt", "createdAt", "channelTitle", "channelThumbnailUrl", "viewCount", "localViewCount",
+            "durationSeconds", "videoForm", "subscriberCount", "favoriteCount", "commentCount"
+    )));
+
+    /** 카드 목록용 기본 필드 (본문 HTML이 담긴 description 제외) */
+    public static final Set<String> CARD;
+
+    static {
+        Set<String> card = new LinkedHashSet<>(ALL);
+        card.remove("description");
+        CARD = Collections.unmodifiableSet(card);
+    }
+
+    private ContentFields() {
+    }
+
+    /**
+     * fields 파라미터("title,thumbnailUrl,...") 파싱, id는 항상 포함
+     * @param fields 쉼표 구분 필드 목록, null/빈 값이면 defaults
+     * @throws IllegalArgumentException 알 수 없는 필드명
+     */
+    public static Set<String> parse(String fields, Set<String> defaults) {
+        if (fields == null || fields.isBlank()) return defaults;
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .forEach(f -> {
+                    if (!ALL.contains(f)) {
+                        throw new IllegalArgumentException("Unknown field: " + f);
+                    }
+                    selected.add(f);
+                });
+        return selected;
+    }
+}
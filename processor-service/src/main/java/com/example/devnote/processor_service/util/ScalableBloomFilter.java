@@ -0,0 +1,139 @@
+package com.example.devnote.processor_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 스레드 안전 Scalable Bloom Filter
+ * - 현재 단계가 용량에 도달하면 용량 2배, 오탐률 1/2인 다음 단계를 추가
+ * - mightContain == false 이면 "확실히 없음", true 이면 "있을 수도 있음"
+ */
+public class ScalableBloomFilter {
+    private static final double GROWTH_FACTOR = 2.0;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+    private final double targetFpp;
+
+    public ScalableBloomFilter(long initialCapacity, double targetFpp) {
+        this.targetFpp = targetFpp;
+        // 단계별 오탐률 합이 targetFpp를 넘지 않도록 첫 단계는 (1 - r) 배로 시작
+        stages.add(new Stage(initialCapacity, targetFpp * (1 - TIGHTENING_RATIO)));
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1);
+        for (Stage stage : stages) {
+            if (stage.mightContain(h1, h2)) return true;
+        }
+        return false;
+    }
+
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1);
+        current().put(h1, h2);
+    }
+
+    /** 전체 삽입 건수 (근사값) */
+    public long size() {
+        return stages.stream().mapToLong(s -> s.count.get()).sum();
+    }
+
+    /** 현재 채움 정도 기준 예상 오탐률: 1 - Π(1 - p_i) */
+    public double expectedFpp() {
+        double notFalse = 1.0;
+        for (Stage stage : stages) {
+            notFalse *= (1 - stage.expectedFpp());
+        }
+        return 1 - notFalse;
+    }
+
+    public double targetFpp() {
+        return targetFpp;
+    }
+
+    public int stageCount() {
+        return stages.size();
+    }
+
+    private Stage current() {
+        Stage last = stages.get(stages.size() - 1);
+        if (last.count.get() < last.capacity) return last;
+        synchronized (stages) {
+            last = stages.get(stages.size() - 1);
+            if (last.count.get() >= last.capacity) {
+                last = new Stage((long) (last.capacity * GROWTH_FACTOR), last.fpp * TIGHTENING_RATIO);
+                stages.add(last);
+            }
+            return last;
+        }
+    }
+
+    /** FNV-1a 64bit */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 고정 크기 Bloom Filter 단계 (double hashing)
+     */
+    private static final class Stage {
+        private final long capacity;
+        private final double fpp;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        Stage(long capacity, double fpp) {
+            this.capacity = Math.max(1, capacity);
+            this.fpp = fpp;
+            long m = (long) Math.ceil(-this.capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / this.capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitSize / 64));
+        }
+
+        boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long idx = Math.floorMod(h1 + i * h2, bitSize);
+                if ((bits.get((int) (idx >>> 6)) & (1L << idx)) == 0) return false;
+            }
+            return true;
+        }
+
+        void put(long h1, long h2) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long idx = Math.floorMod(h1 + i * h2, bitSize);
+                int word = (int) (idx >>> 6);
+                long mask = 1L << idx;
+                long prev = bits.getAndAccumulate(word, mask, (a, b) -> a | b);
+                if ((prev & mask) == 0) changed = true;
+            }
+            if (changed) count.incrementAndGet();
+        }
+
+        /** (1 - e^(-kn/m))^k */
+        double expectedFpp() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * count.get() / bitSize), hashCount);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.devnote.processor_service.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 콘텐츠 검색 search_after 커서
+ * - "정렬|PIT id|마지막 문서의 sort 값들"을 base64url로 인코딩한 불투명 문자열
+ * - relevance 정렬은 첫 sort 값이 _score(실수), 나머지(publishedAt, id)는 정수
+ * - PIT를 사용하지 않으면 PIT id는 빈 문자열
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    private final String pitId;
+    private final List<Object> sortValues;
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(sort).append(SEPARATOR).append(pitId == null ? "" : pitId);
+        sortValues.forEach(v -> raw.append(SEPARATOR).append(v));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param scoreFirst 첫 sort 값이 _score 인지 여부 (relevance 정렬)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static SearchCursor decode(String cursor, boolean scoreFirst) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        List<Object> values = new ArrayList<>(parts.length - 2);
+        for (int i = 2; i < parts.length; i++) {
+            values.add(i == 2 && scoreFirst ? Double.valueOf(parts[i]) : Long.valueOf(parts[i]));
+        }
+        return new SearchCursor(parts[0], parts[1].isEmpty() ? null : parts[1], values);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.devnote.processor_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * contents 테이블 핫 쿼리 실행 계획 회귀 검사
+ * - 엔티티 @Index 선언으로 스키마를 생성하고 합성 데이터(기본 100만 건)를 적재한 뒤 EXPLAIN 확인
+ * - 전체 스캔(type = ALL), 인덱스 미사용, ORDER BY 쿼리의 filesort가 나오면 실패
+ * - Docker가 없으면 건너뜀, 적재 건수는 -Dcontent.plan.rows 로 조정
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ContentQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final long ROWS = Long.getLong("content.plan.rows", 1_000_000L);
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) return;
+        // MariaDB Sequence 엔진(seq_1_to_N)으로 분포가 있는 합성 데이터 적재
+        // - status: 약 5% HIDDEN, source: 2종, category: 10종(TBC 포함), 채널: 1000개, publishedAt: 약 3년 분산
+        jdbcTemplate.execute("""
+                INSERT INTO contents (id, source, category, title, status, channel_id, link, channel_title,
+                                      local_view_count, favorite_count, comment_count, view_count,
+                                      published_at, created_at)
+                SELECT seq,
+                       IF(seq % 3 = 0, 'NEWS', 'YOUTUBE'),
+                       ELT(1 + seq % 10, 'TBC', 'BACKEND', 'FRONTEND', 'AI', 'DEVOPS',
+                           'MOBILE', 'DATA', 'SECURITY', 'CAREER', 'ETC'),
+                       CONCAT('title ', seq),
+                       IF(seq % 20 = 0, 'HIDDEN', 'ACTIVE'),
+                       CONCAT('ch-', seq % 1000),
+                       CONCAT('https://example.com/', seq),
+                       CONCAT('channel ', seq % 1000),
+                       seq % 5000, seq % 700, seq % 300, (seq * 7919) % 1000000,
+                       TIMESTAMPADD(SECOND, -((seq * 104729) % 94608000), '2026-01-01 00:00:00'),
+                       TIMESTAMPADD(SECOND, -(seq % 94608000), '2026-01-01 00:00:00')
+                FROM seq_1_to_%d
+                """.formatted(ROWS));
+        jdbcTemplate.execute("ANALYZE TABLE contents");
+        seeded = true;
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // 목록 (getContents / slice / scroll): status = ACTIVE + 필터 + 정렬, id 타이브레이커
+                sorted("list newest", "status = 'ACTIVE' ORDER BY published_at DESC, id DESC"),
+                sorted("list oldest", "status = 'ACTIVE' ORDER BY published_at ASC, id ASC"),
+                sorted("list views", "status = 'ACTIVE' ORDER BY local_view_count DESC, id DESC"),
+                sorted("list youtube views", "status = 'ACTIVE' ORDER BY view_count DESC, id DESC"),
+                sorted("list favorites", "status = 'ACTIVE' ORDER BY favorite_count DESC, id DESC"),
+                sorted("list comments", "status = 'ACTIVE' ORDER BY comment_count DESC, id DESC"),
+                sorted("category newest", "status = 'ACTIVE' AND category = 'BACKEND' ORDER BY published_at DESC, id DESC"),
+                sorted("category views", "status = 'ACTIVE' AND category = 'BACKEND' ORDER BY local_view_count DESC, id DESC"),
+                sorted("category favorites", "status = 'ACTIVE' AND category = 'BACKEND' ORDER BY favorite_count DESC, id DESC"),
+                sorted("source category newest",
+                        "status = 'ACTIVE' AND source = 'YOUTUBE' AND category = 'BACKEND' ORDER BY published_at DESC, id DESC"),
+                sorted("channel id newest", "status = 'ACTIVE' AND channel_id = 'ch-42' ORDER BY published_at DESC, id DESC"),
+                sorted("channel title newest",
+                        "status = 'ACTIVE' AND channel_title = 'channel 42' ORDER BY published_at DESC, id DESC"),
+                sorted("keyset newest", "status = 'ACTIVE' AND category = 'BACKEND' "
+                        + "AND (published_at < '2025-06-01' OR (published_at = '2025-06-01' AND id < 500000)) "
+                        + "ORDER BY published_at DESC, id DESC"),
+                // 수집 / 분류 / 숨김 처리
+                filtered("find by source and link", "SELECT id FROM contents WHERE source = 'YOUTUBE' AND link = 'https://example.com/42'"),
+                filtered("find by link in", "SELECT id FROM contents WHERE link IN ('https://example.com/1', 'https://example.com/2')"),
+                filtered("find by source and category", "SELECT id FROM contents WHERE source = 'YOUTUBE' AND category = 'TBC'"),
+                filtered("find by status", "SELECT id FROM contents WHERE status = 'HIDDEN'"),
+                // 통계
+                filtered("count by day", "SELECT COUNT(*) FROM contents "
+                        + "WHERE created_at >= '2025-06-01' AND created_at < '2025-06-02'"),
+                filtered("category counts rebuild", "SELECT COALESCE(source, ''), COALESCE(category, ''), COUNT(*) "
+                        + "FROM contents WHERE status = 'ACTIVE' GROUP BY COALESCE(source, ''), COALESCE(category, '')")
+        );
+    }
+
+    private static Arguments sorted(String name, String whereAndOrder) {
+        return Arguments.of(name, "SELECT id FROM contents WHERE " + whereAndOrder + " LIMIT 21", true);
+    }
+
+    private static Arguments filtered(String name, String sql) {
+        return Arguments.of(name, sql, false);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String name, String sql, boolean ordered) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        assertThat(plan).as("plan for %s", name).isNotEmpty();
+
+        for (Map<String, Object> row : plan) {
+            String extra = String.valueOf(row.get("Extra"));
+            assertThat(row.get("type")).as("%s scans the whole table: %s", name, row).isNotEqualTo("ALL");
+            assertThat(row.get("key")).as("%s uses no index: %s", name, row).isNotNull();
+            if (ordered) {
+                assertThat(extra).as("%s sorts outside the index: %s", name, row).doesNotContain("Using filesort");
+            }
+        }
+    }
+}
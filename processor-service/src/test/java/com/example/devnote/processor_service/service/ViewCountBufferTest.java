@@ -0,0 +1,128 @@
+package com.example.devnote.processor_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private StringRedisTemplate sredis;
+    /** Redis에 INCRBY로 반영된 키별 합계 */
+    private final Map<String, Long> redisCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(stringCommands.incrBy(any(byte[].class), anyLong())).thenAnswer(inv -> {
+            String key = new String((byte[]) inv.getArgument(0), StandardCharsets.UTF_8);
+            long delta = inv.getArgument(1);
+            redisCounts.merge(key, delta, Long::sum);
+            return null;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.setCommands()).thenReturn(mock(RedisSetCommands.class));
+
+        sredis = mock(StringRedisTemplate.class);
+        when(sredis.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new IllegalStateException("redis down");
+            }
+            RedisCallback<?> callback = inv.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+
+        buffer = new ViewCountBuffer(sredis);
+    }
+
+    @Test
+    void closeDrainsAllBufferedIncrements() {
+        for (int i = 0; i < 5; i++) buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.close();
+
+        assertThat(redisCounts).containsEntry("views:content:1:count", 5L)
+                .containsEntry("views:content:2:count", 1L);
+    }
+
+    @Test
+    void concurrentIncrementsDuringPushAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long id = t % 3;
+            Thread w = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perThread; i++) buffer.increment(id);
+            });
+            writers.add(w);
+            w.start();
+        }
+        Thread pusher = new Thread(() -> {
+            while (running.get()) buffer.push();
+        });
+        pusher.start();
+
+        start.countDown();
+        for (Thread w : writers) w.join();
+        running.set(false);
+        pusher.join();
+        buffer.close();
+
+        long total = redisCounts.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    void failedPushKeepsCountsForNextAttempt() {
+        buffer.increment(7L);
+        buffer.increment(7L);
+
+        failuresLeft.set(1);
+        buffer.push();
+        assertThat(redisCounts).isEmpty();
+
+        buffer.close();
+        assertThat(redisCounts).containsEntry("views:content:7:count", 2L);
+    }
+
+    @Test
+    void incrementAfterCloseIsPushedImmediately() {
+        buffer.close();
+
+        buffer.increment(3L);
+
+        assertThat(redisCounts).containsEntry("views:content:3:count", 1L);
+    }
+}
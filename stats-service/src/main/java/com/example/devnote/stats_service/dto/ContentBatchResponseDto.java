@@ -0,0 +1,17 @@
+package com.example.devnote.stats_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentBatchResponseDto {
+    private List<ContentDto> items; // 조회된 콘텐츠 (요청 id 순서, 중복 id는 한 번만)
+    private List<Long> missingIds; // 없거나 숨김 처리된 콘텐츠 id
+}
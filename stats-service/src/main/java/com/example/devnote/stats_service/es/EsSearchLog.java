@@ -9,8 +9,11 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.time.Instant;
 
+/**
+ * 검색 로그 문서 (processor-service가 일별 인덱스 search_logs-yyyy.MM.dd에 기록, 여기서는 조회만)
+ */
 @Data
-@Document(indexName = "search_logs")
+@Document(indexName = "search_logs", createIndex = false)
 public class EsSearchLog {
     @Id
     private String id;
@@ -23,4 +26,8 @@ public class EsSearchLog {
 
     @Field(type = FieldType.Date, format = DateFormat.epoch_millis)
     private Instant timestamp;
+
+    /** (검색어, source, 분) 버킷의 검색 횟수, 사전 집계 이전 문서는 null (1회) */
+    @Field(type = FieldType.Long)
+    private Long count;
 }
\ No newline at end of file
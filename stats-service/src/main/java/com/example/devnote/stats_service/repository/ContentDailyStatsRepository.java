@@ -32,4 +32,6 @@ public interface ContentDailyStatsRepository extends JpaRepository<ContentDailyS
     List<Object[]> findYearlyCountsByRange(@Param("startYear") int startYear, @Param("endYear") int endYear);
 
     Optional<ContentDailyStats> findByDay(LocalDate day);
+
+    List<ContentDailyStats> findByDayBetween(LocalDate start, LocalDate end);
 }
\ No newline at end of file
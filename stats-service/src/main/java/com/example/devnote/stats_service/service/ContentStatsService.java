@@ -48,13 +48,23 @@ public class ContentStatsService {
         return "stats:content:new:day:" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
     }
 
+    private String seenKey(String contentId) {
+        return "stats:content:new:seen:" + contentId;
+    }
+
     /**
      * Kafka 'content.created' 토픽 리스너
      * - 메시지 수신 시 오늘 날짜의 신규 콘텐츠 카운터를 Redis에서 1 증가시킴
+     * - 발행 측(아웃박스)은 at-least-once이므로 contentId 기준으로 중복 수신을 무시
      */
     @KafkaListener(topics = TOPIC_CONTENT_CREATED, groupId = "stats-service-group-content")
     public void onContentCreated(String message) {
-        // 메시지 내용은 현재 사용하지 않지만, 추후 확장을 위해 받을 수 있음
+        // 메시지 = contentId
+        Boolean first = redis.opsForValue().setIfAbsent(seenKey(message), "1", Duration.ofDays(2));
+        if (Boolean.FALSE.equals(first)) {
+            log.debug("Duplicate content.created ignored: {}", message);
+            return;
+        }
         LocalDate today = LocalDate.now(ZONE);
         String key = dayCountKey(today);
         log.debug("Incrementing new content count for key: {}", key);
@@ -105,16 +115,38 @@ public class ContentStatsService {
     }
 
     /**
-     * 지정된 기간 동안의 통계를 Redis에서 읽어와 DB에 저장
+     * 지정된 기간 동안의 일자별 통계를 processor-service에서 한 번에 받아 DB에 저장
      * @param start 시작일
      * @param end 종료일
      */
+    @Transactional
     public void backfillHistoricalStats(LocalDate start, LocalDate end) {
         log.info("[STATS-CONTENT][BACKFILL] Starting backfill from {} to {}", start, end);
-        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-            flushStatsToDbForDate(date);
+        Map<String, Long> counts;
+        try {
+            WebClient webClient = webClientBuilder.baseUrl("http://processor-service").build();
+            counts = webClient.get()
+                    .uri("/internal/stats/content/count-by-range?start={start}&end={end}", start, end)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<Map<String, Long>>() {})
+                    .block();
+        } catch (Exception e) {
+            log.error("[STATS-CONTENT][BACKFILL] Failed to fetch counts from processor-service for {} ~ {}: {}", start, end, e.getMessage());
+            return;
         }
-        log.info("[STATS-CONTENT][BACKFILL] Completed backfill.");
+        if (counts == null) return;
+
+        Map<LocalDate, ContentDailyStats> existing = repo.findByDayBetween(start, end).stream()
+                .collect(Collectors.toMap(ContentDailyStats::getDay, stats -> stats));
+        List<ContentDailyStats> toSave = new ArrayList<>(counts.size());
+        counts.forEach((day, count) -> {
+            LocalDate date = LocalDate.parse(day);
+            ContentDailyStats stats = existing.getOrDefault(date, new ContentDailyStats(null, date, 0L));
+            stats.setCount(count);
+            toSave.add(stats);
+        });
+        repo.saveAll(toSave);
+        log.info("[STATS-CONTENT][BACKFILL] Completed backfill ({} days).", toSave.size());
     }
 
     /**
@@ -9,7 +9,9 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -21,6 +23,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RankingService {
 
+    /** processor-service /contents/batch 한 번에 허용되는 최대 id 수 (processor.contents.batch-max-ids) */
+    private static final int BATCH_SIZE = 200;
+
     private final WebClient.Builder webClientBuilder;
 
     /**
@@ -39,13 +44,11 @@ public class RankingService {
             return PageResponseDto.<RankedContentDto>builder().items(List.of()).page(page).size(size).build();
         }
 
-        // 2. 각 contentId로 processor-service에 상세 정보를 요청
+        // 2. contentId 목록으로 processor-service에 상세 정보를 일괄 요청
+        Map<Long, ContentDto> details = fetchContentDetailsBatch(pagedIds.getContent());
         AtomicLong rankCounter = new AtomicLong(pagedIds.getNumber() * pagedIds.getSize() + 1);
         List<RankedContentDto> rankedItems = pagedIds.getContent().stream()
-                .map(rankedId -> {
-                    ApiResponseDto<ContentDto> details = fetchContentDetailsBlocking(rankedId.getContentId());
-                    return toRankedContentDto(rankedId, details, rankCounter.getAndIncrement());
-                })
+                .map(rankedId -> toRankedContentDto(rankedId, details.get(rankedId.getContentId()), rankCounter.getAndIncrement()))
                 .collect(Collectors.toList());
 
         return PageResponseDto.<RankedContentDto>builder()
@@ -72,12 +75,10 @@ public class RankingService {
             return PageResponseDto.<RankedContentDto>builder().items(List.of()).page(page).size(size).build();
         }
 
+        Map<Long, ContentDto> details = fetchContentDetailsBatch(pagedIds.getContent());
         AtomicLong rankCounter = new AtomicLong(pagedIds.getNumber() * pagedIds.getSize() + 1);
         List<RankedContentDto> rankedItems = pagedIds.getContent().stream()
-                .map(rankedId -> {
-                    ApiResponseDto<ContentDto> details = fetchContentDetailsBlocking(rankedId.getContentId());
-                    return toRankedContentDto(rankedId, details, rankCounter.getAndIncrement());
-                })
+                .map(rankedId -> toRankedContentDto(rankedId, details.get(rankedId.getContentId()), rankCounter.getAndIncrement()))
                 .collect(Collectors.toList());
 
         return PageResponseDto.<RankedContentDto>builder()
@@ -172,20 +173,31 @@ public class RankingService {
     }
 
     /**
-     * (Helper) contentId로 상세 정보 조회 (블로킹 방식)
+     * (Helper) contentId 목록으로 상세 정보 일괄 조회 (블로킹 방식)
+     * - BATCH_SIZE개씩 나누어 요청 (한 묶음이 실패해도 나머지 묶음 결과는 사용)
+     * @return contentId → 상세 정보 (없거나 조회 실패한 id는 포함되지 않음)
      */
-    private ApiResponseDto<ContentDto> fetchContentDetailsBlocking(Long contentId) {
-        try {
-            return webClientBuilder.baseUrl("http://processor-service").build()
-                    .get()
-                    .uri("/api/v1/contents/{id}", contentId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                    .block();
-        } catch (Exception e) {
-            log.error("Failed to fetch content details for id={}: {}", contentId, e.getMessage());
-            return new ApiResponseDto<>();
+    private Map<Long, ContentDto> fetchContentDetailsBatch(List<RankedContentIdDto> rankedIds) {
+        List<Long> ids = rankedIds.stream().map(RankedContentIdDto::getContentId).distinct().toList();
+        Map<Long, ContentDto> details = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+            try {
+                ApiResponseDto<ContentBatchResponseDto> response = webClientBuilder.baseUrl("http://processor-service").build()
+                        .get()
+                        .uri(uri -> uri.path("/api/v1/contents/batch").queryParam("ids", chunk).build())
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentBatchResponseDto>>() {})
+                        .block();
+                if (response == null || response.getData() == null) {
+                    continue;
+                }
+                response.getData().getItems().forEach(c -> details.put(c.getId(), c));
+            } catch (Exception e) {
+                log.error("Failed to fetch content details for ids={}: {}", chunk, e.getMessage());
+            }
         }
+        return details;
     }
 
     /**
@@ -205,8 +217,7 @@ public class RankingService {
         }
     }
 
-    private RankedContentDto toRankedContentDto(RankedContentIdDto id, ApiResponseDto<ContentDto> details, long rank) {
-        ContentDto data = details.getData();
+    private RankedContentDto toRankedContentDto(RankedContentIdDto id, ContentDto data, long rank) {
         if (data == null) {
             return RankedContentDto.builder()
                     .rank(rank)
@@ -1,16 +1,24 @@
 package com.example.devnote.stats_service.service;
 
 import com.example.devnote.stats_service.es.EsSearchLog;
-import com.example.devnote.stats_service.es.EsSearchLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,10 +29,16 @@ import java.util.regex.Pattern;
 @Slf4j
 public class SearchStatsService {
 
-    private final EsSearchLogRepository searchLogRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
     private final StringRedisTemplate redisTemplate;
     private static final String RANKING_KEY_PREFIX = "ranking:search_terms:";
 
+    /** processor-service가 쓰는 일별 검색 로그 인덱스 (search_logs-yyyy.MM.dd, UTC 날짜) */
+    private static final String INDEX_PREFIX = "search_logs-";
+    private static final DateTimeFormatter INDEX_DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    /** 일별 인덱스 전환 이전의 단일 인덱스 (보관 기간이 지나면 processor-service가 삭제) */
+    private static final String LEGACY_INDEX = "search_logs";
+
     private static final Pattern SAFE_SEARCH_TERM =
             Pattern.compile("^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ\\s._\\-+#]{1,50}$");
 
@@ -74,29 +88,57 @@ public class SearchStatsService {
 
     /**
      * Elasticsearch에서 특정 기간의 검색 로그 조회 메서드
+     * - 기간과 겹치는 일별 인덱스만 조회
      */
     private List<EsSearchLog> getLogs(String source, Instant start, Instant end) {
-        PageRequest pageable = PageRequest.of(0, 10000);
-        return searchLogRepository.findBySourceAndTimestampBetween(source, start, end, pageable);
+        Criteria criteria = new Criteria("source").is(source)
+                .and(new Criteria("timestamp").between(start.toEpochMilli(), end.toEpochMilli()));
+        return searchLogs(criteria, start, end);
     }
 
     /**
      * (통합집계, 현재 사용 x -> 2026.01.21 ~ ) Elasticsearch에서 특정 기간의 검색 로그 조회 메서드
      */
     private List<EsSearchLog> searchLogsBetween(Instant start, Instant end) {
-        PageRequest pageable = PageRequest.of(0, 10000);
-        return searchLogRepository.findByTimestampBetween(start, end, pageable);
+        Criteria criteria = new Criteria("timestamp").between(start.toEpochMilli(), end.toEpochMilli());
+        return searchLogs(criteria, start, end);
+    }
+
+    private List<EsSearchLog> searchLogs(Criteria criteria, Instant start, Instant end) {
+        CriteriaQuery query = new CriteriaQuery(criteria, PageRequest.of(0, 10000));
+        return elasticsearchOperations.search(query, EsSearchLog.class, indicesBetween(start, end))
+                .stream()
+                .map(SearchHit::getContent)
+                .toList();
     }
 
+    /**
+     * [start, end] 구간과 겹치는 일별 인덱스 목록
+     * - 검색이 없던 날은 인덱스가 없으므로 와일드카드로 지정 (없으면 조회 대상에서 빠짐)
+     * - 이전 단일 인덱스가 남아 있으면 함께 조회
+     */
+    private IndexCoordinates indicesBetween(Instant start, Instant end) {
+        List<String> indices = new ArrayList<>();
+        LocalDate last = end.atOffset(ZoneOffset.UTC).toLocalDate();
+        for (LocalDate day = start.atOffset(ZoneOffset.UTC).toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            indices.add(INDEX_PREFIX + INDEX_DAY_FORMAT.format(day) + "*");
+        }
+        if (elasticsearchOperations.indexOps(IndexCoordinates.of(LEGACY_INDEX)).exists()) {
+            indices.add(LEGACY_INDEX);
+        }
+        return IndexCoordinates.of(indices.toArray(String[]::new));
+    }
 
     /**
-     * 조회된 로그 목록을 바탕으로 점수 맵에 가중치를 더하는 메서드
+     * 조회된 로그 목록을 바탕으로 점수 맵에 가중치 x 검색 횟수를 더하는 메서드
+     * - 로그 문서는 분 단위 집계 버킷 (count 없는 이전 문서는 1회)
      */
     private void addScores(Map<String, Double> scoreMap, List<EsSearchLog> logs, double weight) {
         for (EsSearchLog log : logs) {
             String query = log.getQuery();
             if (isValidSearchTerm(query)) {
-                scoreMap.merge(query, weight, Double::sum);
+                long count = log.getCount() == null ? 1L : log.getCount();
+                scoreMap.merge(query, weight * count, Double::sum);
             }
         }
     }
@@ -6,6 +6,7 @@ import com.example.devnote.entity.enums.CommentTargetType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -59,4 +60,11 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
     /** 대상 타입/ID로 댓글 수 집계 */
     long countByTargetTypeAndTargetId(CommentTargetType targetType, Long targetId);
+
+    /** 대상 변경 (콘텐츠 병합 시 댓글을 남는 콘텐츠로 이동) */
+    @Modifying
+    @Query("UPDATE CommentEntity c SET c.targetId = :toId WHERE c.targetType = :targetType AND c.targetId = :fromId")
+    int updateTargetId(@Param("targetType") CommentTargetType targetType,
+                       @Param("fromId") Long fromId,
+                       @Param("toId") Long toId);
 }
\ No newline at end of file
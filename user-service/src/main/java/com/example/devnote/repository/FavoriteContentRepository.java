@@ -15,6 +15,7 @@ public interface FavoriteContentRepository extends JpaRepository<FavoriteContent
     List<FavoriteContent> findByUserId(Long userId);
     List<FavoriteContent> findByUserIdOrderByCreatedAtDesc(Long userId);
     void deleteByContentId(Long contentId);
+    List<FavoriteContent> findByContentId(Long contentId);
     /**
      * 가장 많이 찜한 콘텐츠 ID와 찜 수를 페이지네이션하여 조회
      */
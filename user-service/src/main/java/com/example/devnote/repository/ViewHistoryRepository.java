@@ -27,6 +27,11 @@ public interface ViewHistoryRepository extends JpaRepository<ViewHistory, Long>
      */
     List<ViewHistory> findByUser(User user);
 
+    /**
+     * 특정 콘텐츠의 모든 시청 기록 조회 (콘텐츠 병합 시 이전용)
+     */
+    List<ViewHistory> findByContentId(Long contentId);
+
     /**
      * 특정 사용자의 특정 콘텐츠에 대한 시청 기록 삭제
      */
@@ -0,0 +1,71 @@
+package com.example.devnote.service;
+
+import com.example.devnote.dto.ApiResponseDto;
+import com.example.devnote.dto.ContentBatchResponseDto;
+import com.example.devnote.dto.ContentDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * processor-service 콘텐츠 일괄 조회
+ * - 여러 콘텐츠 상세를 id별 개별 요청 대신 /api/v1/contents/batch 로 묶어서 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentLookupService {
+    /** processor-service 일괄 조회 1회당 최대 id 수 */
+    private static final int BATCH_SIZE = 200;
+
+    private final WebClient apiGatewayClient;
+
+    /**
+     * 콘텐츠 상세 일괄 조회
+     * @return 결과 (items: 요청 순서, missingIds: 없거나 숨김 처리된 id)
+     * @throws org.springframework.web.reactive.function.client.WebClientException 조회 실패 시
+     */
+    public ContentBatchResponseDto fetchContents(Collection<Long> contentIds) {
+        List<Long> ids = contentIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<ContentDto> items = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+            ApiResponseDto<ContentBatchResponseDto> response = apiGatewayClient.get()
+                    .uri(uri -> uri.path("/api/v1/contents/batch").queryParam("ids", chunk).build())
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentBatchResponseDto>>() {})
+                    .block();
+            if (response == null || response.getData() == null) {
+                throw new IllegalStateException("Empty batch content response");
+            }
+            items.addAll(response.getData().getItems());
+            missingIds.addAll(response.getData().getMissingIds());
+        }
+        return new ContentBatchResponseDto(items, missingIds);
+    }
+
+    /**
+     * 콘텐츠 상세 일괄 조회 (id → DTO, 요청 순서 유지), 실패 시 빈 결과
+     */
+    public Map<Long, ContentDto> fetchContentMap(Collection<Long> contentIds) {
+        Map<Long, ContentDto> byId = new LinkedHashMap<>();
+        if (contentIds.isEmpty()) return byId;
+        try {
+            fetchContents(contentIds).getItems().forEach(c -> byId.put(c.getId(), c));
+        } catch (Exception e) {
+            log.error("콘텐츠 일괄 조회 중 오류 발생 ({}건)", contentIds.size(), e);
+        }
+        return byId;
+    }
+}
@@ -1,10 +1,17 @@
 package com.example.devnote.service;
 
+import com.example.devnote.dto.ContentStatsUpdateDto;
+import com.example.devnote.entity.FavoriteContent;
+import com.example.devnote.entity.ViewHistory;
+import com.example.devnote.entity.enums.CommentTargetType;
+import com.example.devnote.repository.CommentRepository;
 import com.example.devnote.repository.FavoriteChannelRepository;
 import com.example.devnote.repository.FavoriteContentRepository;
+import com.example.devnote.repository.ViewHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletionEventListener {
     private final FavoriteChannelRepository channelFavRepo;
     private final FavoriteContentRepository contentFavRepo;
+    private final ViewHistoryRepository historyRepository;
+    private final CommentRepository commentRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
 
     /**
      * channel.deleted 토픽 수신 → 해당 채널 즐겨찾기 삭제
@@ -42,4 +52,50 @@ public class DeletionEventListener {
         contentFavRepo.deleteByContentId(contentId);
         log.info("Deleted {} content favorites", contentId);
     }
+
+    /**
+     * content.merged 토픽 수신 (값 "삭제id:남길id") → 찜/시청 기록/댓글을 남는 콘텐츠로 이동
+     * - 찜/댓글 수는 processor가 이미 남는 콘텐츠에 더했으므로,
+     *   같은 사용자가 두 콘텐츠를 모두 찜해 하나로 합쳐지는 경우에만 찜 -1 이벤트 발행
+     * - 이미 이동된 뒤 재수신하면 옮길 행이 없어 아무 것도 하지 않음
+     */
+    @KafkaListener(
+            topics = "content.merged",
+            containerFactory = "deletionKafkaListenerFactory"
+    )
+    @Transactional
+    public void onContentMerged(String payload) {
+        String[] ids = payload.split(":");
+        Long fromId = Long.parseLong(ids[0]);
+        Long toId = Long.parseLong(ids[1]);
+
+        int droppedFavorites = 0;
+        for (FavoriteContent fav : contentFavRepo.findByContentId(fromId)) {
+            if (contentFavRepo.findByUserIdAndContentId(fav.getUserId(), toId).isPresent()) {
+                contentFavRepo.delete(fav);
+                droppedFavorites++;
+            } else {
+                fav.setContentId(toId);
+            }
+        }
+
+        for (ViewHistory history : historyRepository.findByContentId(fromId)) {
+            if (historyRepository.findByUserAndContentId(history.getUser(), toId).isPresent()) {
+                historyRepository.delete(history);
+            } else {
+                history.setContentId(toId);
+            }
+        }
+
+        int movedComments = commentRepository.updateTargetId(CommentTargetType.CONTENT, fromId, toId);
+
+        if (droppedFavorites > 0) {
+            kafkaTemplate.send("content-stats-update", ContentStatsUpdateDto.builder()
+                    .contentId(toId)
+                    .favoriteDelta(-droppedFavorites)
+                    .build());
+        }
+        log.info("Merged content {} into {} (dropped {} duplicate favorites, moved {} comments)",
+                fromId, toId, droppedFavorites, movedComments);
+    }
 }
@@ -2,6 +2,7 @@ package com.example.devnote.service;
 
 import com.example.devnote.dto.ApiResponseDto;
 import com.example.devnote.dto.ChannelSubscriptionDto;
+import com.example.devnote.dto.ContentBatchResponseDto;
 import com.example.devnote.dto.ContentDto;
 import com.example.devnote.dto.FavoritesResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class FavoritesService {
     private final ChannelFavoriteService channelFav;
     private final ContentFavoriteService contentFav;
     private final WebClient apiGatewayClient;
+    private final ContentLookupService contentLookupService;
 
     /**
      * 찜한 채널 & 콘텐츠를 한 번에 조회
@@ -47,23 +49,12 @@ public class FavoritesService {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        // 2) 찜한 콘텐츠 ID -> ContentDto
-        List<ContentDto> contents = contentFav.list().stream()
-                .map(ctId -> {
-                    try {
-                        return apiGatewayClient.get()
-                                .uri("/api/v1/contents/{id}", ctId)
-                                .retrieve()
-                                .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                                .block()
-                                .getData();
-                    } catch (WebClientResponseException.NotFound ex) {
-                        log.warn("Favorited content not found (id={}), skipping.", ctId);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        // 2) 찜한 콘텐츠 ID -> ContentDto (일괄 조회 1회, 없는 콘텐츠는 제외)
+        ContentBatchResponseDto batch = contentLookupService.fetchContents(contentFav.list());
+        if (!batch.getMissingIds().isEmpty()) {
+            log.warn("Favorited contents not found (ids={}), skipping.", batch.getMissingIds());
+        }
+        List<ContentDto> contents = batch.getItems();
 
         // 3) DTO 조합
         return new FavoritesResponseDto(channels, contents);
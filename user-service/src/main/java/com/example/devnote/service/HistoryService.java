@@ -1,6 +1,6 @@
 package com.example.devnote.service;
 
-import com.example.devnote.dto.ApiResponseDto;
+import com.example.devnote.dto.ContentBatchResponseDto;
 import com.example.devnote.dto.ContentDto;
 import com.example.devnote.dto.ViewHistoryRequestDto;
 import com.example.devnote.entity.User;
@@ -9,7 +9,6 @@ import com.example.devnote.repository.UserRepository;
 import com.example.devnote.repository.ViewHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -17,13 +16,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -32,7 +33,7 @@ public class HistoryService {
 
     private final ViewHistoryRepository historyRepository;
     private final UserRepository userRepository;
-    private final WebClient apiGatewayClient;
+    private final ContentLookupService contentLookupService;
 
     /**
      * 현재 로그인된 사용자의 시청 기록을 저장하거나 업데이트
@@ -70,14 +71,19 @@ public class HistoryService {
         List<ContentDto> validContents = new ArrayList<>();
         List<ViewHistory> historiesToDelete = new ArrayList<>();
 
+        // 페이지의 콘텐츠 정보를 한 번에 조회
+        ContentBatchResponseDto batch = fetchContents(historyPage.getContent());
+        Map<Long, ContentDto> contentsById = toMap(batch);
+        Set<Long> missingIds = new HashSet<>(batch.getMissingIds());
+
         for (ViewHistory history : historyPage.getContent()) {
-            ContentDto content = fetchContentDetails(history.getContentId());
+            ContentDto content = contentsById.get(history.getContentId());
 
             if (content != null) {
                 // 콘텐츠 정보 조회를 성공하면, 유효한 목록에 추가
                 validContents.add(content);
-            } else {
-                // 콘텐츠 정보 조회를 실패하면(삭제된 콘텐츠), 해당 시청 기록을 삭제 대상 목록에 추가
+            } else if (missingIds.contains(history.getContentId())) {
+                // 존재하지 않는 콘텐츠(삭제/숨김)로 확인되면, 해당 시청 기록을 삭제 대상 목록에 추가
                 historiesToDelete.add(history);
             }
         }
@@ -98,25 +104,21 @@ public class HistoryService {
     }
 
     /**
-     * 콘텐츠 상세 정보를 조회하고, 404 Not Found 발생 시 null을 반환
+     * 시청 기록의 콘텐츠 상세 정보를 일괄 조회, 오류 발생 시 빈 결과 반환 (시청 기록은 삭제하지 않음)
      */
-    private ContentDto fetchContentDetails(Long contentId) {
+    private ContentBatchResponseDto fetchContents(List<ViewHistory> histories) {
         try {
-            ApiResponseDto<ContentDto> response = apiGatewayClient.get()
-                    .uri("/api/v1/contents/{id}", contentId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                    .block();
-            return (response != null) ? response.getData() : null;
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("시청 기록에 포함된 콘텐츠 정보를 찾을 수 없습니다 (contentId={}).", contentId);
-            return null;
+            return contentLookupService.fetchContents(histories.stream().map(ViewHistory::getContentId).toList());
         } catch (Exception e) {
-            log.error("콘텐츠 정보를 가져오는 중 오류 발생 (contentId={})", contentId, e);
-            return null;
+            log.error("콘텐츠 정보를 가져오는 중 오류 발생 ({}건)", histories.size(), e);
+            return new ContentBatchResponseDto(List.of(), List.of());
         }
     }
 
+    private Map<Long, ContentDto> toMap(ContentBatchResponseDto batch) {
+        return batch.getItems().stream().collect(Collectors.toMap(ContentDto::getId, c -> c));
+    }
+
     /**
      * 현재 로그인된 사용자의 시청 기록을 source에 따라 전체 삭제
      * @param source 삭제할 콘텐츠의 소스 ("YOUTUBE" 또는 "NEWS")
@@ -132,9 +134,10 @@ public class HistoryService {
         }
 
         // 2. 삭제해야 할 시청 기록만 필터링
+        Map<Long, ContentDto> contentsById = toMap(fetchContents(allHistories));
         List<ViewHistory> historiesToDelete = allHistories.stream()
                 .filter(history -> {
-                    ContentDto content = fetchContentDetails(history.getContentId());
+                    ContentDto content = contentsById.get(history.getContentId());
                     return content != null && source.equalsIgnoreCase(content.getSource());
                 })
                 .toList();
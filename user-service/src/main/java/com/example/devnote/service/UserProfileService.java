@@ -23,6 +23,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,6 +38,7 @@ public class UserProfileService {
     private final PostRepository postRepository;
     private final PostScrapRepository postScrapRepo;
     private final WebClient apiGatewayClient;
+    private final ContentLookupService contentLookupService;
     private final WithdrawnUserRepository withdrawnUserRepo;
     private final CommentService commentService;
     private final ContentFavoriteService contentFavoriteService;
@@ -67,37 +69,20 @@ public class UserProfileService {
         User user = userRepo.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // 찜한 콘텐츠 정보 일괄 조회
+        Collection<ContentDto> favoriteContents = contentLookupService.fetchContentMap(
+                favContentRepo.findByUserId(userId).stream().map(FavoriteContent::getContentId).toList()
+        ).values();
+
         // 찜한 영상 개수
-        int favoriteVideoCount = favContentRepo.findByUserId(userId).stream()
-                .mapToInt(fav -> {
-                    try {
-                        ApiResponseDto<ContentDto> response = apiGatewayClient.get()
-                                .uri("/api/v1/contents/{id}", fav.getContentId())
-                                .retrieve()
-                                .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                                .block();
-                        return "YOUTUBE".equals(response.getData().getSource()) ? 1 : 0;
-                    } catch (Exception e) {
-                        return 0;
-                    }
-                })
-                .sum();
+        int favoriteVideoCount = (int) favoriteContents.stream()
+                .filter(c -> "YOUTUBE".equals(c.getSource()))
+                .count();
 
         // 찜한 뉴스 개수
-        int favoriteNewsCount = favContentRepo.findByUserId(userId).stream()
-                .mapToInt(fav -> {
-                    try {
-                        ApiResponseDto<ContentDto> response = apiGatewayClient.get()
-                                .uri("/api/v1/contents/{id}", fav.getContentId())
-                                .retrieve()
-                                .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                                .block();
-                        return "NEWS".equals(response.getData().getSource()) ? 1 : 0;
-                    } catch (Exception e) {
-                        return 0;
-                    }
-                })
-                .sum();
+        int favoriteNewsCount = (int) favoriteContents.stream()
+                .filter(c -> "NEWS".equals(c.getSource()))
+                .count();
 
         // 찜한 채널 개수
         int favoriteChannelCount = favChannelRepo.findByUserId(userId).size();
@@ -148,10 +133,7 @@ public class UserProfileService {
                 .map(FavoriteContent::getContentId)
                 .toList();
 
-        List<ContentDto> allFavorites = contentIds.stream()
-                .map(this::fetchContentDetails)
-                .filter(Objects::nonNull)
-                .toList();
+        List<ContentDto> allFavorites = contentLookupService.fetchContents(contentIds).getItems();
 
         List<ContentDto> favoriteVideosList = allFavorites.stream()
                 .filter(c -> "YOUTUBE".equals(c.getSource()))
@@ -343,23 +325,6 @@ public class UserProfileService {
         return new PageImpl<>(list.subList(start, end), pageable, list.size());
     }
 
-    /**
-     * 찜한 콘텐츠의 상세 정보를 조회하는 메서드
-     */
-    private ContentDto fetchContentDetails(Long contentId) {
-        try {
-            ApiResponseDto<ContentDto> response = apiGatewayClient.get()
-                    .uri("/api/v1/contents/{id}", contentId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponseDto<ContentDto>>() {})
-                    .block();
-            return (response != null) ? response.getData() : null;
-        } catch (WebClientResponseException.NotFound ex) {
-            log.warn("Favorite content not found (id={}), skipping.", contentId);
-            return null;
-        }
-    }
-
     /**
      * 찜한 채널의 상세 정보를 조회하는 메서드
      */